@@ -0,0 +1,72 @@
+#!/usr/bin/env bash
+# Startup benchmark: time from JVM launch to the first 200 on /health.
+#
+# Build first:  mvn -Pfast-startup package -DskipTests
+# Then run:     scripts/startup-benchmark.sh [runs]
+#
+# Needs the local Postgres from infra/ (migrated once with: java -jar target/api-0.0.1-SNAPSHOT.jar migrate).
+# Prints one "variant run millis" line per run and a median per variant, so results diff cleanly.
+# Requires bash 5+ (for $EPOCHREALTIME) or python3 on the PATH, plus curl; works on Linux and macOS.
+# For a per-phase breakdown, start one instance with STARTUP_METRICS=true and the serve profile
+# and read GET http://localhost:${MANAGEMENT_PORT:-8081}/actuator/startup (JIT build only, see README).
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${SERVER_PORT:-8080}"
+TARGET_DIR="$(cd "$(dirname "$0")/.." && pwd)/target"
+JAR="api-0.0.1-SNAPSHOT.jar"
+EXEC_JAR="api-0.0.1-SNAPSHOT-exec.jar"
+
+# Millisecond wall clock without GNU date (BSD/macOS date has no %N).
+if [[ -n "${EPOCHREALTIME:-}" ]]; then
+  now_ms() {
+    local t="${EPOCHREALTIME/[.,]/}"
+    echo $(( 10#$t / 1000 ))
+  }
+elif command -v python3 >/dev/null 2>&1; then
+  now_ms() {
+    python3 -c 'import time; print(time.time_ns() // 1000000)'
+  }
+else
+  echo "startup-benchmark.sh needs bash 5+ or python3 for millisecond timestamps" >&2
+  exit 1
+fi
+
+measure() {
+  local variant="$1"
+  shift
+  local timings=()
+
+  for run in $(seq 1 "$RUNS"); do
+    local start pid
+    start="$(now_ms)"
+    (cd "$TARGET_DIR" && exec "$@" --server.port="$PORT") > "$TARGET_DIR/startup-$variant.log" 2>&1 &
+    pid=$!
+
+    until curl -sf -o /dev/null "http://localhost:$PORT/health"; do
+      if ! kill -0 "$pid" 2>/dev/null; then
+        echo "$variant failed to start, see $TARGET_DIR/startup-$variant.log" >&2
+        exit 1
+      fi
+      sleep 0.01
+    done
+
+    local elapsed=$(( $(now_ms) - start ))
+    timings+=("$elapsed")
+    echo "$variant $run $elapsed"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+  done
+
+  local median
+  median="$(printf '%s\n' "${timings[@]}" | sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }')"
+  echo "$variant median $median"
+}
+
+measure default java -jar "$EXEC_JAR"
+measure serve java -Dspring.profiles.active=serve -jar "$EXEC_JAR"
+measure aot java -Dspring.aot.enabled=true -Dspring.profiles.active=serve -jar "$JAR"
+measure aot-cds java -XX:SharedArchiveFile=application.jsa -Xlog:cds=error \
+  -Dspring.aot.enabled=true -Dspring.profiles.active=serve -jar "$JAR"
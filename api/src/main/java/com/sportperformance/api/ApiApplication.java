@@ -1,13 +1,35 @@
 package com.sportperformance.api;
 
+import com.sportperformance.api.migration.MigrationCommand;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+
+import java.util.Arrays;
 
 @SpringBootApplication
 public class ApiApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(ApiApplication.class, args);
+        if (args.length > 0 && MigrationCommand.NAME.equals(args[0])) {
+            MigrationCommand.run(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
+        SpringApplication application = new SpringApplication(ApiApplication.class);
+        if (startupMetricsEnabled()) {
+            application.setApplicationStartup(new BufferingApplicationStartup(4096));
+        }
+        application.run(args);
+    }
+
+    /**
+     * Startup step recording is opt-in (-Dstartup.metrics=true or STARTUP_METRICS=true);
+     * it buffers every step in memory and backs /actuator/startup.
+     */
+    private static boolean startupMetricsEnabled() {
+        return Boolean.getBoolean("startup.metrics")
+            || Boolean.parseBoolean(System.getenv("STARTUP_METRICS"));
     }
 
 }
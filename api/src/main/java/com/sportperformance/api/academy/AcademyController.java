@@ -1,18 +1,24 @@
 package com.sportperformance.api.academy;
 
+import com.sportperformance.api.common.CacheResource;
+import com.sportperformance.api.common.ConditionalGetSupport;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/academies")
 public class AcademyController {
 
     private final AcademyService academyService;
+    private final ConditionalGetSupport conditionalGetSupport;
 
-    public AcademyController(AcademyService academyService) {
+    public AcademyController(AcademyService academyService, ConditionalGetSupport conditionalGetSupport) {
         this.academyService = academyService;
+        this.conditionalGetSupport = conditionalGetSupport;
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -22,7 +28,14 @@ public class AcademyController {
     }
 
     @GetMapping(value = "/{academyNumber}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public AcademyResponse getAcademy(@PathVariable String academyNumber) {
-        return academyService.getAcademyByNumber(academyNumber);
+    public ResponseEntity<AcademyResponse> getAcademy(
+            @PathVariable String academyNumber,
+            WebRequest request) {
+        return conditionalGetSupport.respond(
+            CacheResource.ACADEMY,
+            request,
+            () -> academyService.getAcademyVersion(academyNumber),
+            () -> academyService.getAcademyByNumber(academyNumber)
+        );
     }
 }
@@ -58,6 +58,17 @@ public class AcademyRepository {
         }
     }
 
+    /**
+     * Version used for the academy ETag. Relies on the update_academy_updated_at
+     * trigger (V6) bumping updated_at on every UPDATE of the row.
+     */
+    public Optional<OffsetDateTime> findVersionByAcademyNumber(String academyNumber) {
+        String sql = "SELECT updated_at FROM academy WHERE academy_number = ?";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> rs.getObject("updated_at", OffsetDateTime.class), academyNumber)
+            .stream()
+            .findFirst();
+    }
+
     public boolean existsByAcademyNumber(String academyNumber) {
         String sql = "SELECT COUNT(*) FROM academy WHERE academy_number = ?";
         Integer count = jdbcTemplate.queryForObject(sql, Integer.class, academyNumber);
@@ -6,6 +6,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -36,12 +37,18 @@ public class AcademyService {
         return toResponse(saved);
     }
 
+    @Transactional(readOnly = true)
     public AcademyResponse getAcademyByNumber(String academyNumber) {
         Academy academy = academyRepository.findByAcademyNumber(academyNumber)
             .orElseThrow(() -> new ResourceNotFoundException("Academy with number " + academyNumber + " not found"));
         return toResponse(academy);
     }
 
+    @Transactional(readOnly = true)
+    public Optional<OffsetDateTime> getAcademyVersion(String academyNumber) {
+        return academyRepository.findVersionByAcademyNumber(academyNumber);
+    }
+
     private AcademyResponse toResponse(Academy academy) {
         return new AcademyResponse(
             academy.id(),
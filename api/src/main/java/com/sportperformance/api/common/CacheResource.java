@@ -0,0 +1,7 @@
+package com.sportperformance.api.common;
+
+public enum CacheResource {
+    ACADEMY,
+    INVITE,
+    REPORT
+}
@@ -0,0 +1,75 @@
+package com.sportperformance.api.common;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET handling for read endpoints. The caller supplies a cheap version
+ * probe (typically a single timestamp column) and the full loader; when the probe's
+ * ETag matches If-None-Match the loader is never run and a 304 is returned.
+ * If-None-Match evaluation is delegated to {@link WebRequest#checkNotModified(String)}.
+ */
+@Component
+public class ConditionalGetSupport {
+
+    private final Map<CacheResource, CacheControl> policies;
+
+    public ConditionalGetSupport(
+            @Value("${http.cache.academy.max-age:60s}") Duration academyMaxAge,
+            @Value("${http.cache.invite.max-age:0s}") Duration inviteMaxAge,
+            @Value("${http.cache.report.max-age:0s}") Duration reportMaxAge) {
+        this.policies = Map.of(
+            CacheResource.ACADEMY, policy(academyMaxAge),
+            CacheResource.INVITE, policy(inviteMaxAge),
+            CacheResource.REPORT, policy(reportMaxAge)
+        );
+    }
+
+    public <T> ResponseEntity<T> respond(
+            CacheResource resource,
+            WebRequest request,
+            Supplier<Optional<OffsetDateTime>> versionProbe,
+            Supplier<T> loader) {
+        Optional<OffsetDateTime> version = versionProbe.get();
+        if (version.isEmpty()) {
+            return ResponseEntity.ok(loader.get());
+        }
+
+        String etag = etag(resource, version.get());
+        CacheControl cacheControl = policies.get(resource);
+
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .build();
+        }
+
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(cacheControl)
+            .body(loader.get());
+    }
+
+    static String etag(CacheResource resource, OffsetDateTime version) {
+        Instant instant = version.toInstant();
+        long micros = instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+        return "\"" + resource.name().toLowerCase() + "-" + Long.toHexString(micros) + "\"";
+    }
+
+    private static CacheControl policy(Duration maxAge) {
+        CacheControl cacheControl = maxAge.isZero() ? CacheControl.noCache() : CacheControl.maxAge(maxAge);
+        return cacheControl.cachePrivate();
+    }
+}
@@ -0,0 +1,11 @@
+package com.sportperformance.api.common;
+
+/**
+ * An in-memory index built from the database that must be complete before the
+ * application serves requests. {@link StartupIndexLoader} calls {@link #rebuild()}
+ * once, before the web server starts.
+ */
+public interface StartupIndex {
+
+    void rebuild();
+}
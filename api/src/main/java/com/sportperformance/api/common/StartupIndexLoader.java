@@ -0,0 +1,47 @@
+package com.sportperformance.api.common;
+
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Loads every {@link StartupIndex} in a lifecycle phase that runs before the web
+ * servers start, so neither the API nor the health endpoints answer while an index
+ * is still empty. Runs at start rather than at bean creation so a refresh-only run
+ * (AOT processing, the CDS training run) never touches the database.
+ */
+@Component
+public class StartupIndexLoader implements SmartLifecycle {
+
+    private static final int PHASE = WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+
+    private final List<StartupIndex> indexes;
+    private volatile boolean running;
+
+    public StartupIndexLoader(List<StartupIndex> indexes) {
+        this.indexes = indexes;
+    }
+
+    @Override
+    public void start() {
+        indexes.forEach(StartupIndex::rebuild);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
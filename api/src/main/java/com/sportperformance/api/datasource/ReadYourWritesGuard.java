@@ -0,0 +1,86 @@
+package com.sportperformance.api.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Pins a client to the primary for a short window after one of its requests commits
+ * a read-write transaction, so it never reads its own write back from a lagging
+ * replica. The rest of the current request is pinned directly; follow-up requests
+ * are pinned through a cookie holding the end of the window.
+ */
+public class ReadYourWritesGuard extends OncePerRequestFilter implements TransactionExecutionListener {
+
+    static final String PIN_COOKIE = "SP_PRIMARY_PIN";
+
+    private static final ThreadLocal<Boolean> pinned = new ThreadLocal<>();
+
+    private final Duration window;
+
+    public ReadYourWritesGuard(Duration window) {
+        this.window = window;
+    }
+
+    static boolean isPinned() {
+        return Boolean.TRUE.equals(pinned.get());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (pinnedUntil(request) > System.currentTimeMillis()) {
+            pinned.set(true);
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            pinned.remove();
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly()) {
+            return;
+        }
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            pinned.set(true);
+            HttpServletResponse response = attributes.getResponse();
+            if (response != null && !response.isCommitted()) {
+                Cookie cookie = new Cookie(PIN_COOKIE, Long.toString(System.currentTimeMillis() + window.toMillis()));
+                cookie.setPath("/");
+                cookie.setHttpOnly(true);
+                cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+                response.addCookie(cookie);
+            }
+        }
+    }
+
+    private static long pinnedUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (PIN_COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
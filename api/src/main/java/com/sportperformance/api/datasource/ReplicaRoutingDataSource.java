@@ -0,0 +1,160 @@
+package com.sportperformance.api.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends connections for read-only transactions to a healthy replica (round robin)
+ * and everything else to the primary. Must sit behind a LazyConnectionDataSourceProxy
+ * so the read-only flag is known when the connection is actually fetched.
+ * A replica whose pool is merely exhausted is skipped for that call but stays
+ * in rotation; only real connection failures take it out until the health check
+ * sees it again.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<? extends DataSource> replicas, Duration healthCheckInterval) {
+        this.primary = primary;
+        List<Replica> wrapped = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            wrapped.add(new Replica(replicas.get(i), "replica-" + i));
+        }
+        this.replicas = List.copyOf(wrapped);
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (!this.replicas.isEmpty()) {
+            long intervalMs = healthCheckInterval.toMillis();
+            healthChecker.scheduleWithFixedDelay(this::checkReplicas, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(null, null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(username, password);
+    }
+
+    private Connection route(String username, String password) throws SQLException {
+        if (routeToReplica()) {
+            for (int attempt = 0; attempt < replicas.size(); attempt++) {
+                Replica replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+                if (!replica.healthy) {
+                    continue;
+                }
+                try {
+                    return username != null
+                        ? replica.dataSource.getConnection(username, password)
+                        : replica.dataSource.getConnection();
+                } catch (SQLException e) {
+                    if (!isPoolExhausted(e)) {
+                        replica.markDown(e);
+                    }
+                }
+            }
+        }
+        return username != null ? primary.getConnection(username, password) : primary.getConnection();
+    }
+
+    private boolean routeToReplica() {
+        return !replicas.isEmpty()
+            && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            && !ReadYourWritesGuard.isPinned();
+    }
+
+    void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (connection.isValid(2)) {
+                    replica.markUp();
+                } else {
+                    replica.markDown(null);
+                }
+            } catch (SQLException e) {
+                if (!isPoolExhausted(e)) {
+                    replica.markDown(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Hikari reports a busy pool as a connection timeout without a cause; when the
+     * database itself is unreachable the last connection failure is attached.
+     */
+    private static boolean isPoolExhausted(SQLException e) {
+        return e instanceof SQLTransientConnectionException && e.getCause() == null;
+    }
+
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+        replicas.forEach(Replica::close);
+    }
+
+    private static final class Replica {
+        private final DataSource dataSource;
+        private final String name;
+        private volatile boolean healthy = true;
+
+        private Replica(DataSource dataSource, String fallbackName) {
+            this.dataSource = dataSource;
+            this.name = dataSource instanceof HikariDataSource hikari && hikari.getPoolName() != null
+                ? hikari.getPoolName()
+                : fallbackName;
+        }
+
+        private void markUp() {
+            if (!healthy) {
+                log.info("Replica {} is healthy again, resuming reads", name);
+            }
+            healthy = true;
+        }
+
+        private void markDown(SQLException cause) {
+            if (healthy) {
+                log.warn("Replica {} is unavailable, failing reads over to the primary: {}",
+                    name, cause != null ? cause.getMessage() : "connection not valid");
+            }
+            healthy = false;
+        }
+
+        private void close() {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close replica {}: {}", name, e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.sportperformance.api.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured DataSource when datasource.routing.enabled=true.
+ * The primary pool keeps binding spring.datasource.hikari.*; each replica gets its
+ * own read-only pool.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+public class RoutingDataSourceConfiguration {
+
+    @Bean(autowireCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(autowireCandidate = false)
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            DataSourceProperties dataSourceProperties,
+            RoutingDataSourceProperties routingProperties) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < routingProperties.replicas().size(); i++) {
+            RoutingDataSourceProperties.Replica replica = routingProperties.replicas().get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            dataSource.setJdbcUrl(replica.url());
+            dataSource.setUsername(replica.username() != null ? replica.username() : dataSourceProperties.determineUsername());
+            dataSource.setPassword(replica.password() != null ? replica.password() : dataSourceProperties.determinePassword());
+            dataSource.setMaximumPoolSize(routingProperties.replicaPoolSize());
+            dataSource.setConnectionTimeout(routingProperties.replicaConnectionTimeout().toMillis());
+            dataSource.setReadOnly(true);
+            dataSource.setInitializationFailTimeout(-1);
+            replicas.add(dataSource);
+        }
+        return new ReplicaRoutingDataSource(
+            primaryDataSource(dataSourceProperties),
+            replicas,
+            routingProperties.healthCheckInterval()
+        );
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, RoutingDataSourceProperties routingProperties) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource(dataSourceProperties, routingProperties));
+    }
+
+    @Bean
+    public ReadYourWritesGuard readYourWritesGuard(RoutingDataSourceProperties routingProperties) {
+        return new ReadYourWritesGuard(routingProperties.readYourWritesWindow());
+    }
+}
@@ -0,0 +1,23 @@
+package com.sportperformance.api.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "datasource.routing")
+public record RoutingDataSourceProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue List<Replica> replicas,
+    @DefaultValue("10") int replicaPoolSize,
+    @DefaultValue("2s") Duration replicaConnectionTimeout,
+    @DefaultValue("5s") Duration readYourWritesWindow,
+    @DefaultValue("10s") Duration healthCheckInterval
+) {
+    public record Replica(
+        String url,
+        String username,
+        String password
+    ) {}
+}
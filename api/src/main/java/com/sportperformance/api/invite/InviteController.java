@@ -1,18 +1,24 @@
 package com.sportperformance.api.invite;
 
+import com.sportperformance.api.common.CacheResource;
+import com.sportperformance.api.common.ConditionalGetSupport;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/invites")
 public class InviteController {
 
     private final InviteService inviteService;
+    private final ConditionalGetSupport conditionalGetSupport;
 
-    public InviteController(InviteService inviteService) {
+    public InviteController(InviteService inviteService, ConditionalGetSupport conditionalGetSupport) {
         this.inviteService = inviteService;
+        this.conditionalGetSupport = conditionalGetSupport;
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -22,8 +28,15 @@ public class InviteController {
     }
 
     @GetMapping(value = "/{token}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public InviteToken getInvite(@PathVariable String token) {
-        return inviteService.getInviteByToken(token);
+    public ResponseEntity<InviteToken> getInvite(
+            @PathVariable String token,
+            WebRequest request) {
+        return conditionalGetSupport.respond(
+            CacheResource.INVITE,
+            request,
+            () -> inviteService.getUsableInviteVersion(token),
+            () -> inviteService.getInviteByToken(token)
+        );
     }
 
     @PostMapping(value = "/{token}/accept", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
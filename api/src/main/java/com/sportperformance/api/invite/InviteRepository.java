@@ -62,6 +62,19 @@ public class InviteRepository {
         }
     }
 
+    public Optional<OffsetDateTime> findVersionOfUsableToken(String token, OffsetDateTime now) {
+        String sql = """
+            SELECT created_at
+            FROM invite_token
+            WHERE token = ?
+              AND used_at IS NULL
+              AND expires_at > ?
+            """;
+        return jdbcTemplate.query(sql, (rs, rowNum) -> rs.getObject("created_at", OffsetDateTime.class), token, now)
+            .stream()
+            .findFirst();
+    }
+
     public void markAsUsed(UUID id, OffsetDateTime usedAt) {
         String sql = "UPDATE invite_token SET used_at = ? WHERE id = ?";
         jdbcTemplate.update(sql, usedAt, id);
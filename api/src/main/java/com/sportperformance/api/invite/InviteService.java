@@ -12,6 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.security.SecureRandom;
 import java.time.OffsetDateTime;
 import java.util.Base64;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -61,6 +62,7 @@ public class InviteService {
         return new InviteResponse(token, inviteUrl, expiresAt);
     }
 
+    @Transactional(readOnly = true)
     public InviteToken getInviteByToken(String token) {
         InviteToken inviteToken = inviteRepository.findByToken(token)
             .orElseThrow(() -> new InvalidInviteException("Invalid invite token"));
@@ -76,6 +78,11 @@ public class InviteService {
         return inviteToken;
     }
 
+    @Transactional(readOnly = true)
+    public Optional<OffsetDateTime> getUsableInviteVersion(String token) {
+        return inviteRepository.findVersionOfUsableToken(token, OffsetDateTime.now());
+    }
+
     @Transactional
     public AcceptInviteResponse acceptInvite(String token, AcceptInviteRequest request) {
         InviteToken inviteToken = getInviteByToken(token);
@@ -0,0 +1,111 @@
+package com.sportperformance.api.leaderboard;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Live ranking of the players of one event by their average overall_rating across
+ * match, skill session and trial session reports.
+ */
+class EventLeaderboard {
+
+    private static final Comparator<Standing> RANKING = Comparator
+        .comparing(Standing::average, Comparator.reverseOrder())
+        .thenComparing(Standing::playerId);
+
+    private final Long eventUniqueNumber;
+    private final Map<ReportKey, ReportRating> reports = new HashMap<>();
+    private final Map<Long, Standing> standings = new HashMap<>();
+    private final OrderStatisticTree<Standing> ranking = new OrderStatisticTree<>(RANKING);
+
+    EventLeaderboard(Long eventUniqueNumber) {
+        this.eventUniqueNumber = eventUniqueNumber;
+    }
+
+    Long eventUniqueNumber() {
+        return eventUniqueNumber;
+    }
+
+    /**
+     * Adds or replaces the rating of a report. A null rating withdraws the report.
+     * Returns true when the ranking changed.
+     */
+    synchronized boolean apply(ReportRating rating) {
+        ReportKey key = new ReportKey(rating.reportType(), rating.reportId());
+        ReportRating previous = rating.overallRating() != null ? reports.put(key, rating) : reports.remove(key);
+
+        if (previous != null && previous.overallRating() != null) {
+            if (rating.overallRating() != null
+                    && previous.playerId().equals(rating.playerId())
+                    && previous.overallRating().compareTo(rating.overallRating()) == 0) {
+                return false;
+            }
+            adjust(previous.playerId(), previous.overallRating().negate(), -1);
+        }
+
+        if (rating.overallRating() != null) {
+            adjust(rating.playerId(), rating.overallRating(), 1);
+            return true;
+        }
+        return previous != null;
+    }
+
+    synchronized int totalPlayers() {
+        return ranking.size();
+    }
+
+    synchronized List<LeaderboardEntry> top(int limit) {
+        List<Standing> leaders = ranking.first(limit);
+        List<LeaderboardEntry> entries = new ArrayList<>(leaders.size());
+        for (int i = 0; i < leaders.size(); i++) {
+            entries.add(leaders.get(i).toEntry(i + 1));
+        }
+        return entries;
+    }
+
+    synchronized LeaderboardResponse snapshot(int limit) {
+        return new LeaderboardResponse(eventUniqueNumber, totalPlayers(), top(limit));
+    }
+
+    synchronized Optional<LeaderboardEntry> entryFor(Long playerId) {
+        Standing standing = standings.get(playerId);
+        if (standing == null) {
+            return Optional.empty();
+        }
+        return Optional.of(standing.toEntry(ranking.rankOf(standing) + 1));
+    }
+
+    private void adjust(Long playerId, BigDecimal delta, int countDelta) {
+        Standing current = standings.get(playerId);
+        if (current != null) {
+            ranking.remove(current);
+        }
+
+        BigDecimal total = current != null ? current.total().add(delta) : delta;
+        int count = (current != null ? current.reportCount() : 0) + countDelta;
+
+        if (count <= 0) {
+            standings.remove(playerId);
+            return;
+        }
+
+        Standing updated = new Standing(playerId, total, count,
+            total.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP));
+        standings.put(playerId, updated);
+        ranking.insert(updated);
+    }
+
+    private record ReportKey(ReportType reportType, Long reportId) {}
+
+    private record Standing(Long playerId, BigDecimal total, int reportCount, BigDecimal average) {
+        LeaderboardEntry toEntry(int rank) {
+            return new LeaderboardEntry(rank, playerId, average, reportCount);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.sportperformance.api.leaderboard;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pushes leaderboard snapshots to SSE subscribers off the report-save thread. Changes
+ * are coalesced per event and flushed on a fixed interval, and idle streams get a
+ * heartbeat comment so proxies keep them open.
+ *
+ * Each subscriber holds only the latest unsent snapshot and has at most one write in
+ * flight, so its snapshots arrive in order and a slow client costs one send thread,
+ * never a growing queue. A subscriber whose write stays blocked longer than the stall
+ * timeout is dropped. When every send thread is busy, a subscriber's snapshot stays in
+ * its slot and is retried on the next flush or heartbeat.
+ */
+@Component
+public class LeaderboardBroadcaster {
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Map<Long, EventLeaderboard> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final ThreadPoolExecutor senders;
+    private final int pushSize;
+    private final long streamTimeoutMs;
+    private final long stallTimeoutNanos;
+
+    public LeaderboardBroadcaster(
+            @Value("${leaderboard.push-size:20}") int pushSize,
+            @Value("${leaderboard.stream-timeout-ms:1800000}") long streamTimeoutMs,
+            @Value("${leaderboard.push-interval-ms:500}") long pushIntervalMs,
+            @Value("${leaderboard.heartbeat-interval-ms:15000}") long heartbeatIntervalMs,
+            @Value("${leaderboard.push-threads:4}") int pushThreads,
+            @Value("${leaderboard.max-push-threads:32}") int maxPushThreads,
+            @Value("${leaderboard.stall-timeout-ms:10000}") long stallTimeoutMs) {
+        this.pushSize = pushSize;
+        this.streamTimeoutMs = streamTimeoutMs;
+        this.stallTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(stallTimeoutMs);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("leaderboard-push"));
+        this.senders = new ThreadPoolExecutor(pushThreads, Math.max(pushThreads, maxPushThreads),
+            60, TimeUnit.SECONDS, new SynchronousQueue<>(), daemonThreads("leaderboard-send"));
+        scheduler.scheduleWithFixedDelay(this::flush, pushIntervalMs, pushIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    SseEmitter subscribe(EventLeaderboard leaderboard) {
+        Long eventUniqueNumber = leaderboard.eventUniqueNumber();
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        Subscriber subscriber = new Subscriber(eventUniqueNumber, emitter);
+        subscribers.compute(eventUniqueNumber, (key, current) -> {
+            Set<Subscriber> set = current != null ? current : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(ex -> unsubscribe(subscriber));
+
+        subscriber.offer(leaderboard.snapshot(pushSize));
+        return emitter;
+    }
+
+    /**
+     * Marks the leaderboard as changed; subscribers get one snapshot at the next flush
+     * however many reports were saved in between.
+     */
+    void changed(EventLeaderboard leaderboard) {
+        if (subscribers.containsKey(leaderboard.eventUniqueNumber())) {
+            pending.put(leaderboard.eventUniqueNumber(), leaderboard);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        senders.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    private void flush() {
+        for (Long eventUniqueNumber : pending.keySet()) {
+            EventLeaderboard leaderboard = pending.remove(eventUniqueNumber);
+            Set<Subscriber> set = subscribers.get(eventUniqueNumber);
+            if (leaderboard == null || set == null || set.isEmpty()) {
+                continue;
+            }
+            LeaderboardResponse snapshot = leaderboard.snapshot(pushSize);
+            set.forEach(subscriber -> subscriber.offer(snapshot));
+        }
+    }
+
+    private void heartbeat() {
+        subscribers.values().forEach(set -> set.forEach(Subscriber::heartbeat));
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.eventUniqueNumber, (key, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private final class Subscriber {
+        private final Long eventUniqueNumber;
+        private final SseEmitter emitter;
+        private final AtomicReference<LeaderboardResponse> latest = new AtomicReference<>();
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile long busySinceNanos;
+        private volatile boolean stalled;
+
+        private Subscriber(Long eventUniqueNumber, SseEmitter emitter) {
+            this.eventUniqueNumber = eventUniqueNumber;
+            this.emitter = emitter;
+        }
+
+        private void offer(LeaderboardResponse snapshot) {
+            latest.set(snapshot);
+            schedule();
+        }
+
+        private void heartbeat() {
+            heartbeatDue.set(true);
+            schedule();
+        }
+
+        private void schedule() {
+            if (!sending.compareAndSet(false, true)) {
+                long busySince = busySinceNanos;
+                if (busySince != 0 && System.nanoTime() - busySince > stallTimeoutNanos) {
+                    // The blocked write holds the emitter; it is completed once that write returns.
+                    stalled = true;
+                    unsubscribe(this);
+                }
+                return;
+            }
+            busySinceNanos = System.nanoTime();
+            try {
+                senders.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                busySinceNanos = 0;
+                sending.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                while (!stalled) {
+                    busySinceNanos = System.nanoTime();
+                    LeaderboardResponse snapshot = latest.getAndSet(null);
+                    if (snapshot != null) {
+                        heartbeatDue.set(false);
+                        emitter.send(SseEmitter.event().name("leaderboard").data(snapshot, MediaType.APPLICATION_JSON));
+                    } else if (heartbeatDue.getAndSet(false)) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        busySinceNanos = 0;
+                        sending.set(false);
+                        if ((latest.get() == null && !heartbeatDue.get()) || !sending.compareAndSet(false, true)) {
+                            return;
+                        }
+                    }
+                }
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                unsubscribe(this);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.sportperformance.api.leaderboard;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/events/{eventUniqueNumber}/leaderboard")
+@Validated
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    public LeaderboardController(LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public LeaderboardResponse getLeaderboard(
+            @PathVariable Long eventUniqueNumber,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(500) int limit) {
+        return leaderboardService.getTop(eventUniqueNumber, limit);
+    }
+
+    @GetMapping(value = "/players/{playerId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public LeaderboardEntry getPlayerRank(@PathVariable Long eventUniqueNumber, @PathVariable Long playerId) {
+        return leaderboardService.getPlayerEntry(eventUniqueNumber, playerId);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLeaderboard(@PathVariable Long eventUniqueNumber) {
+        return leaderboardService.subscribe(eventUniqueNumber);
+    }
+}
@@ -0,0 +1,10 @@
+package com.sportperformance.api.leaderboard;
+
+import java.math.BigDecimal;
+
+public record LeaderboardEntry(
+    int rank,
+    Long playerId,
+    BigDecimal averageRating,
+    int reportCount
+) {}
@@ -0,0 +1,45 @@
+package com.sportperformance.api.leaderboard;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+public class LeaderboardRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LeaderboardRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<ReportRating> findVipSelectionRatings() {
+        List<ReportRating> ratings = new ArrayList<>();
+        for (ReportType reportType : ReportType.values()) {
+            String sql = """
+                SELECT r.id, r.event_unique_number, r.player_id, r.overall_rating
+                FROM %s r
+                JOIN event e ON e.id = r.event_id
+                WHERE e.event_type = ?
+                  AND r.overall_rating IS NOT NULL
+                """.formatted(reportType.tableName());
+
+            ratings.addAll(jdbcTemplate.query(sql, (rs, rowNum) -> new ReportRating(
+                reportType,
+                rs.getLong("id"),
+                rs.getLong("event_unique_number"),
+                rs.getLong("player_id"),
+                rs.getBigDecimal("overall_rating")
+            ), ReportSavedEvent.VIP_SELECTION));
+        }
+        return ratings;
+    }
+
+    public boolean isVipSelectionEvent(Long eventUniqueNumber) {
+        String sql = "SELECT COUNT(*) FROM event WHERE event_unique_number = ? AND event_type = ?";
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, eventUniqueNumber, ReportSavedEvent.VIP_SELECTION);
+        return count != null && count > 0;
+    }
+}
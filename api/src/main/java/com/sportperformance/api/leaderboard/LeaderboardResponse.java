@@ -0,0 +1,9 @@
+package com.sportperformance.api.leaderboard;
+
+import java.util.List;
+
+public record LeaderboardResponse(
+    Long eventUniqueNumber,
+    int totalPlayers,
+    List<LeaderboardEntry> entries
+) {}
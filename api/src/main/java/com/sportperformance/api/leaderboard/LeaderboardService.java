@@ -0,0 +1,88 @@
+package com.sportperformance.api.leaderboard;
+
+import com.sportperformance.api.common.ResourceNotFoundException;
+import com.sportperformance.api.common.StartupIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class LeaderboardService implements StartupIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaderboardService.class);
+
+    private final LeaderboardRepository leaderboardRepository;
+    private final LeaderboardBroadcaster leaderboardBroadcaster;
+    private volatile Map<Long, EventLeaderboard> leaderboards = new ConcurrentHashMap<>();
+
+    public LeaderboardService(
+            LeaderboardRepository leaderboardRepository,
+            LeaderboardBroadcaster leaderboardBroadcaster) {
+        this.leaderboardRepository = leaderboardRepository;
+        this.leaderboardBroadcaster = leaderboardBroadcaster;
+    }
+
+    /**
+     * Builds a fresh map and swaps it in, so readers never see a partially loaded one.
+     */
+    @Override
+    public void rebuild() {
+        Map<Long, EventLeaderboard> loaded = new ConcurrentHashMap<>();
+        List<ReportRating> ratings = leaderboardRepository.findVipSelectionRatings();
+        ratings.forEach(rating -> loaded.computeIfAbsent(rating.eventUniqueNumber(), EventLeaderboard::new).apply(rating));
+        leaderboards = loaded;
+        log.info("Rebuilt {} event leaderboards from {} rated reports", loaded.size(), ratings.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReportSaved(ReportSavedEvent event) {
+        if (!event.isVipSelection()) {
+            return;
+        }
+        EventLeaderboard leaderboard = leaderboardFor(event.rating().eventUniqueNumber());
+        if (leaderboard.apply(event.rating())) {
+            leaderboardBroadcaster.changed(leaderboard);
+        }
+    }
+
+    public LeaderboardResponse getTop(Long eventUniqueNumber, int limit) {
+        EventLeaderboard leaderboard = leaderboards.get(eventUniqueNumber);
+        if (leaderboard == null) {
+            return new LeaderboardResponse(eventUniqueNumber, 0, List.of());
+        }
+        return leaderboard.snapshot(limit);
+    }
+
+    public LeaderboardEntry getPlayerEntry(Long eventUniqueNumber, Long playerId) {
+        return Optional.ofNullable(leaderboards.get(eventUniqueNumber))
+            .flatMap(leaderboard -> leaderboard.entryFor(playerId))
+            .orElseThrow(() -> new ResourceNotFoundException(
+                "Player " + playerId + " has no rated reports in event " + eventUniqueNumber));
+    }
+
+    /**
+     * Only VIP Selection events that exist get a stream, so clients cannot grow the
+     * leaderboard map with arbitrary event numbers.
+     */
+    public SseEmitter subscribe(Long eventUniqueNumber) {
+        EventLeaderboard leaderboard = leaderboards.get(eventUniqueNumber);
+        if (leaderboard == null) {
+            if (!leaderboardRepository.isVipSelectionEvent(eventUniqueNumber)) {
+                throw new ResourceNotFoundException("VIP Selection event with number " + eventUniqueNumber + " not found");
+            }
+            leaderboard = leaderboardFor(eventUniqueNumber);
+        }
+        return leaderboardBroadcaster.subscribe(leaderboard);
+    }
+
+    private EventLeaderboard leaderboardFor(Long eventUniqueNumber) {
+        return leaderboards.computeIfAbsent(eventUniqueNumber, EventLeaderboard::new);
+    }
+}
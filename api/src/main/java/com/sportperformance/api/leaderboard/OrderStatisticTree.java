@@ -0,0 +1,142 @@
+package com.sportperformance.api.leaderboard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Size-augmented treap. Insert, remove and rank lookups are O(log n) expected,
+ * taking the first k keys in order is O(k + log n). Not thread safe.
+ */
+class OrderStatisticTree<K> {
+
+    private final Comparator<? super K> comparator;
+    private Node<K> root;
+
+    OrderStatisticTree(Comparator<? super K> comparator) {
+        this.comparator = comparator;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    void insert(K key) {
+        Node<K>[] parts = split(root, key);
+        root = merge(merge(parts[0], new Node<>(key)), parts[1]);
+    }
+
+    boolean remove(K key) {
+        int before = size(root);
+        root = remove(root, key);
+        return size(root) < before;
+    }
+
+    /**
+     * Zero based position of the key, or -1 if it is not in the tree.
+     */
+    int rankOf(K key) {
+        int rank = 0;
+        Node<K> node = root;
+        while (node != null) {
+            int cmp = comparator.compare(key, node.key);
+            if (cmp < 0) {
+                node = node.left;
+            } else if (cmp > 0) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return rank + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    List<K> first(int limit) {
+        List<K> result = new ArrayList<>(Math.min(Math.max(limit, 0), size()));
+        collect(root, limit, result);
+        return result;
+    }
+
+    private void collect(Node<K> node, int limit, List<K> result) {
+        if (node == null || result.size() >= limit) {
+            return;
+        }
+        collect(node.left, limit, result);
+        if (result.size() < limit) {
+            result.add(node.key);
+            collect(node.right, limit, result);
+        }
+    }
+
+    private Node<K> remove(Node<K> node, K key) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = comparator.compare(key, node.key);
+        if (cmp < 0) {
+            node.left = remove(node.left, key);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, key);
+        } else {
+            return merge(node.left, node.right);
+        }
+        node.update();
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<K>[] split(Node<K> node, K key) {
+        if (node == null) {
+            return new Node[] { null, null };
+        }
+        if (comparator.compare(node.key, key) < 0) {
+            Node<K>[] parts = split(node.right, key);
+            node.right = parts[0];
+            node.update();
+            return new Node[] { node, parts[1] };
+        }
+        Node<K>[] parts = split(node.left, key);
+        node.left = parts[1];
+        node.update();
+        return new Node[] { parts[0], node };
+    }
+
+    private Node<K> merge(Node<K> left, Node<K> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<K> {
+        private final K key;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private Node<K> left;
+        private Node<K> right;
+        private int size = 1;
+
+        private Node(K key) {
+            this.key = key;
+        }
+
+        private void update() {
+            size = 1 + size(left) + size(right);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.sportperformance.api.leaderboard;
+
+import java.math.BigDecimal;
+
+public record ReportRating(
+    ReportType reportType,
+    Long reportId,
+    Long eventUniqueNumber,
+    Long playerId,
+    BigDecimal overallRating
+) {}
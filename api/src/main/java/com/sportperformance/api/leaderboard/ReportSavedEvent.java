@@ -0,0 +1,16 @@
+package com.sportperformance.api.leaderboard;
+
+/**
+ * Published by the report services after a match, skill session or trial session
+ * report row has been inserted or updated. Only VIP Selection events are ranked.
+ */
+public record ReportSavedEvent(
+    ReportRating rating,
+    String eventType
+) {
+    public static final String VIP_SELECTION = "VIP Selection";
+
+    public boolean isVipSelection() {
+        return VIP_SELECTION.equals(eventType);
+    }
+}
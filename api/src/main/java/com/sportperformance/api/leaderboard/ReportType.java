@@ -0,0 +1,17 @@
+package com.sportperformance.api.leaderboard;
+
+public enum ReportType {
+    MATCH("match_report"),
+    SKILL_SESSION("skill_session_report"),
+    TRIAL_SESSION("trial_session_report");
+
+    private final String tableName;
+
+    ReportType(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+}
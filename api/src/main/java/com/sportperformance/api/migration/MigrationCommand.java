@@ -0,0 +1,34 @@
+package com.sportperformance.api.migration;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Arrays;
+
+/**
+ * One-shot schema migration: java -jar api.jar migrate
+ * Starts a minimal, non-web context holding only the DataSource and Flyway, applies
+ * pending migrations against the primary (validating them first) and exits.
+ * Run it without -Dspring.aot.enabled, the AOT initializers are built for serving.
+ */
+@ImportAutoConfiguration({ DataSourceAutoConfiguration.class, FlywayAutoConfiguration.class })
+public class MigrationCommand {
+
+    public static final String NAME = "migrate";
+
+    public static void run(String[] args) {
+        String[] arguments = Arrays.copyOf(args, args.length + 2);
+        arguments[args.length] = "--spring.flyway.enabled=true";
+        arguments[args.length + 1] = "--spring.flyway.validate-on-migrate=true";
+
+        SpringApplication application = new SpringApplication(MigrationCommand.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        try (ConfigurableApplicationContext context = application.run(arguments)) {
+            // Flyway migrates while the context starts, nothing else to do
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.sportperformance.api.roster;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+class AcademyRoster {
+
+    private final Map<GroupKey, MembershipTimeline> timelines = new ConcurrentHashMap<>();
+    private final Map<LinkKey, LinkHistory> histories = new ConcurrentHashMap<>();
+
+    synchronized void apply(MembershipInterval interval) {
+        LinkHistory history = histories.computeIfAbsent(
+            new LinkKey(interval.kind(), interval.linkId()), key -> new LinkHistory());
+
+        List<MembershipInterval> before = history.stints();
+        if (!history.add(interval)) {
+            return;
+        }
+        List<MembershipInterval> after = history.stints();
+
+        Set<Long> groupIds = new HashSet<>();
+        before.forEach(stint -> groupIds.add(stint.groupId()));
+        after.forEach(stint -> groupIds.add(stint.groupId()));
+
+        for (Long groupId : groupIds) {
+            timelines.computeIfAbsent(new GroupKey(interval.kind(), groupId), key -> new MembershipTimeline())
+                .replace(interval.linkId(), after.stream()
+                    .filter(stint -> stint.groupId().equals(groupId))
+                    .toList());
+        }
+    }
+
+    Set<Long> membersAsOf(MembershipKind kind, Long groupId, Instant asOf) {
+        MembershipTimeline timeline = timelines.get(new GroupKey(kind, groupId));
+        return timeline != null ? timeline.membersAsOf(asOf) : Set.of();
+    }
+
+    private record GroupKey(MembershipKind kind, Long groupId) {}
+
+    private record LinkKey(MembershipKind kind, Long linkId) {}
+}
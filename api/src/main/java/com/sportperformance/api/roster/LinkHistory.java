@@ -0,0 +1,67 @@
+package com.sportperformance.api.roster;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * All recorded versions of one player link, resolved into the stints it describes.
+ * Versions are replayed in version order. A version opens a new stint only when it
+ * moves the link to another group (a transfer or position change), which ends the
+ * previous stint at the new start if it was still open, or when the previous stint
+ * was already closed before the new start (a rejoin). Any other version is an edit
+ * of the current stint, such as setting left_at or correcting joined_at, and
+ * replaces it.
+ */
+class LinkHistory {
+
+    private final Map<Integer, MembershipInterval> versions = new TreeMap<>();
+
+    /**
+     * Returns false when this exact version was already recorded.
+     */
+    boolean add(MembershipInterval interval) {
+        return !interval.equals(versions.put(interval.versionNumber(), interval));
+    }
+
+    List<MembershipInterval> stints() {
+        List<MembershipInterval> stints = new ArrayList<>(versions.size());
+        for (MembershipInterval version : versions.values()) {
+            if (stints.isEmpty()) {
+                stints.add(version);
+                continue;
+            }
+            int lastIndex = stints.size() - 1;
+            MembershipInterval last = stints.get(lastIndex);
+            if (!last.groupId().equals(version.groupId())) {
+                if (last.to() == null || last.to().isAfter(version.from())) {
+                    stints.remove(lastIndex);
+                    if (last.from().isBefore(version.from())) {
+                        stints.add(withEnd(last, version.from()));
+                    }
+                }
+                stints.add(version);
+            } else if (last.to() != null && !last.to().isAfter(version.from())) {
+                stints.add(version);
+            } else {
+                stints.set(lastIndex, version);
+            }
+        }
+        return stints;
+    }
+
+    private static MembershipInterval withEnd(MembershipInterval interval, OffsetDateTime to) {
+        return new MembershipInterval(
+            interval.kind(),
+            interval.linkId(),
+            interval.academyId(),
+            interval.groupId(),
+            interval.playerId(),
+            interval.from(),
+            to,
+            interval.versionNumber()
+        );
+    }
+}
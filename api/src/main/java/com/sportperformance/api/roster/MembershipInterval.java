@@ -0,0 +1,18 @@
+package com.sportperformance.api.roster;
+
+import java.time.OffsetDateTime;
+
+/**
+ * One version of a player link. groupId is the academy, sport, team or position id
+ * depending on the kind; the interval is [from, to), an open end means still linked.
+ */
+public record MembershipInterval(
+    MembershipKind kind,
+    Long linkId,
+    Long academyId,
+    Long groupId,
+    Long playerId,
+    OffsetDateTime from,
+    OffsetDateTime to,
+    Integer versionNumber
+) {}
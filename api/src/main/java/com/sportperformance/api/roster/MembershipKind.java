@@ -0,0 +1,8 @@
+package com.sportperformance.api.roster;
+
+public enum MembershipKind {
+    ACADEMY,
+    SPORT,
+    TEAM,
+    POSITION
+}
@@ -0,0 +1,140 @@
+package com.sportperformance.api.roster;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Membership of one academy, sport, team or position over time, as half-open
+ * [from, to) stints per link. As-of queries binary search the join/leave boundaries,
+ * then replay the per-boundary deltas from the nearest checkpoint; a full member set
+ * is only kept every CHECKPOINT_INTERVAL boundaries, so memory stays close to the
+ * number of stints instead of boundaries x members. The structure is rebuilt lazily
+ * on the first read after a change to this group.
+ */
+class MembershipTimeline {
+
+    static final int CHECKPOINT_INTERVAL = 32;
+
+    private static final long[] NONE = new long[0];
+
+    private final Map<Long, List<MembershipInterval>> links = new HashMap<>();
+    private Instant[] boundaries = new Instant[0];
+    private long[][] joined = new long[0][];
+    private long[][] left = new long[0][];
+    private List<Set<Long>> checkpoints = List.of();
+    private boolean dirty;
+
+    /**
+     * Replaces every stint of the link in this group; an empty list removes the link.
+     */
+    synchronized void replace(Long linkId, List<MembershipInterval> stints) {
+        List<MembershipInterval> previous = stints.isEmpty() ? links.remove(linkId) : links.put(linkId, stints);
+        if (!stints.equals(previous == null ? List.of() : previous)) {
+            dirty = true;
+        }
+    }
+
+    synchronized Set<Long> membersAsOf(Instant asOf) {
+        if (dirty) {
+            rebuild();
+        }
+        int index = Arrays.binarySearch(boundaries, asOf);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        if (index < 0) {
+            return Set.of();
+        }
+
+        int checkpoint = index / CHECKPOINT_INTERVAL;
+        Set<Long> members = new HashSet<>(checkpoints.get(checkpoint));
+        for (int i = checkpoint * CHECKPOINT_INTERVAL + 1; i <= index; i++) {
+            for (long playerId : left[i]) {
+                members.remove(playerId);
+            }
+            for (long playerId : joined[i]) {
+                members.add(playerId);
+            }
+        }
+        return Set.copyOf(members);
+    }
+
+    private void rebuild() {
+        List<Change> changes = new ArrayList<>();
+        for (List<MembershipInterval> stints : links.values()) {
+            for (MembershipInterval stint : stints) {
+                Instant from = stint.from().toInstant();
+                Instant to = stint.to() != null ? stint.to().toInstant() : null;
+                if (to != null && !to.isAfter(from)) {
+                    continue;
+                }
+                changes.add(new Change(from, stint.playerId(), 1));
+                if (to != null) {
+                    changes.add(new Change(to, stint.playerId(), -1));
+                }
+            }
+        }
+        changes.sort(Comparator.comparing(Change::at));
+
+        List<Instant> times = new ArrayList<>();
+        List<long[]> joins = new ArrayList<>();
+        List<long[]> leaves = new ArrayList<>();
+        List<Set<Long>> sets = new ArrayList<>();
+        Map<Long, Integer> active = new HashMap<>();
+        int i = 0;
+        while (i < changes.size()) {
+            Instant at = changes.get(i).at();
+            int start = i;
+            while (i < changes.size() && changes.get(i).at().equals(at)) {
+                i++;
+            }
+            List<Change> batch = changes.subList(start, i);
+
+            Set<Long> activeBefore = new HashSet<>();
+            batch.forEach(change -> {
+                if (active.containsKey(change.playerId())) {
+                    activeBefore.add(change.playerId());
+                }
+            });
+            batch.forEach(change -> active.merge(change.playerId(), change.delta(), (a, b) -> a + b == 0 ? null : a + b));
+
+            Set<Long> joinedNow = new HashSet<>();
+            Set<Long> leftNow = new HashSet<>();
+            for (Change change : batch) {
+                boolean wasActive = activeBefore.contains(change.playerId());
+                boolean isActive = active.containsKey(change.playerId());
+                if (!wasActive && isActive) {
+                    joinedNow.add(change.playerId());
+                } else if (wasActive && !isActive) {
+                    leftNow.add(change.playerId());
+                }
+            }
+
+            if (times.size() % CHECKPOINT_INTERVAL == 0) {
+                sets.add(Set.copyOf(active.keySet()));
+            }
+            times.add(at);
+            joins.add(toArray(joinedNow));
+            leaves.add(toArray(leftNow));
+        }
+
+        boundaries = times.toArray(new Instant[0]);
+        joined = joins.toArray(new long[0][]);
+        left = leaves.toArray(new long[0][]);
+        checkpoints = sets;
+        dirty = false;
+    }
+
+    private static long[] toArray(Set<Long> playerIds) {
+        return playerIds.isEmpty() ? NONE : playerIds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private record Change(Instant at, Long playerId, int delta) {}
+}
@@ -0,0 +1,49 @@
+package com.sportperformance.api.roster;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.OffsetDateTime;
+
+@RestController
+@RequestMapping("/api/v1/academies/{academyNumber}/roster")
+public class RosterController {
+
+    private final RosterService rosterService;
+
+    public RosterController(RosterService rosterService) {
+        this.rosterService = rosterService;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public RosterResponse getAcademyRoster(
+            @PathVariable String academyNumber,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime asOf) {
+        return rosterService.getRosterAsOf(academyNumber, MembershipKind.ACADEMY, null, asOf);
+    }
+
+    @GetMapping(value = "/sports/{sportId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public RosterResponse getSportRoster(
+            @PathVariable String academyNumber,
+            @PathVariable Long sportId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime asOf) {
+        return rosterService.getRosterAsOf(academyNumber, MembershipKind.SPORT, sportId, asOf);
+    }
+
+    @GetMapping(value = "/teams/{teamId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public RosterResponse getTeamRoster(
+            @PathVariable String academyNumber,
+            @PathVariable Long teamId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime asOf) {
+        return rosterService.getRosterAsOf(academyNumber, MembershipKind.TEAM, teamId, asOf);
+    }
+
+    @GetMapping(value = "/positions/{positionId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public RosterResponse getPositionRoster(
+            @PathVariable String academyNumber,
+            @PathVariable Long positionId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime asOf) {
+        return rosterService.getRosterAsOf(academyNumber, MembershipKind.POSITION, positionId, asOf);
+    }
+}
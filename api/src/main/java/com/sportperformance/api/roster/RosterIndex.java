@@ -0,0 +1,68 @@
+package com.sportperformance.api.roster;
+
+import com.sportperformance.api.common.StartupIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory, per-academy index of who was linked to which academy, sport, team
+ * and position at any point in time, built from every version in the link history
+ * tables at startup. Each RosterLinkChangedEvent adds one more version to its link;
+ * nothing publishes that event yet, so later writes need a restart to show up.
+ */
+@Component
+public class RosterIndex implements StartupIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(RosterIndex.class);
+
+    private final RosterRepository rosterRepository;
+    private volatile Map<Long, AcademyRoster> rosters = new ConcurrentHashMap<>();
+    private final Map<String, Long> academyIds = new ConcurrentHashMap<>();
+
+    public RosterIndex(RosterRepository rosterRepository) {
+        this.rosterRepository = rosterRepository;
+    }
+
+    /**
+     * Builds a fresh map and swaps it in, so readers never see a partially loaded one.
+     */
+    @Override
+    public void rebuild() {
+        Map<Long, AcademyRoster> loaded = new ConcurrentHashMap<>();
+        List<MembershipInterval> intervals = rosterRepository.findAllVersions();
+        intervals.forEach(interval -> apply(loaded, interval));
+        rosters = loaded;
+        log.info("Rebuilt roster index for {} academies from {} link versions", loaded.size(), intervals.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLinkChanged(RosterLinkChangedEvent event) {
+        apply(rosters, event.interval());
+    }
+
+    public Set<Long> membersAsOf(Long academyId, MembershipKind kind, Long groupId, OffsetDateTime asOf) {
+        AcademyRoster roster = rosters.get(academyId);
+        return roster != null ? roster.membersAsOf(kind, groupId, asOf.toInstant()) : Set.of();
+    }
+
+    /**
+     * academy_number is immutable, so a resolved id is cached for the life of the index.
+     */
+    public Optional<Long> academyIdFor(String academyNumber) {
+        return Optional.ofNullable(academyIds.computeIfAbsent(academyNumber,
+            number -> rosterRepository.findAcademyIdByNumber(number).orElse(null)));
+    }
+
+    private static void apply(Map<Long, AcademyRoster> rosters, MembershipInterval interval) {
+        rosters.computeIfAbsent(interval.academyId(), key -> new AcademyRoster()).apply(interval);
+    }
+}
@@ -0,0 +1,11 @@
+package com.sportperformance.api.roster;
+
+/**
+ * To be published after a player academy, sport, team or position link is created
+ * or changed, carrying the version that was written to the matching history table.
+ * No link write path exists in the tree yet, so nothing publishes it today; until
+ * one does, the index reflects the history tables as loaded at startup.
+ */
+public record RosterLinkChangedEvent(
+    MembershipInterval interval
+) {}
@@ -0,0 +1,74 @@
+package com.sportperformance.api.roster;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class RosterRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RosterRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    private static RowMapper<MembershipInterval> rowMapper(MembershipKind kind) {
+        return (rs, rowNum) -> new MembershipInterval(
+            kind,
+            rs.getLong("link_id"),
+            rs.getLong("academy_id"),
+            rs.getLong("group_id"),
+            rs.getLong("player_id"),
+            rs.getObject("valid_from", OffsetDateTime.class),
+            rs.getObject("valid_to", OffsetDateTime.class),
+            rs.getInt("version_number")
+        );
+    }
+
+    public List<MembershipInterval> findAllVersions() {
+        List<MembershipInterval> intervals = new ArrayList<>();
+
+        intervals.addAll(jdbcTemplate.query("""
+            SELECT player_academy_link_id AS link_id, academy_id, academy_id AS group_id, player_id,
+                joined_at AS valid_from, left_at AS valid_to, version_number
+            FROM player_academy_link_history
+            ORDER BY player_academy_link_id, version_number
+            """, rowMapper(MembershipKind.ACADEMY)));
+
+        intervals.addAll(jdbcTemplate.query("""
+            SELECT player_sport_link_id AS link_id, academy_id, sport_id AS group_id, player_id,
+                joined_at AS valid_from, left_at AS valid_to, version_number
+            FROM player_sport_link_history
+            ORDER BY player_sport_link_id, version_number
+            """, rowMapper(MembershipKind.SPORT)));
+
+        intervals.addAll(jdbcTemplate.query("""
+            SELECT player_team_link_id AS link_id, academy_id, team_id AS group_id, player_id,
+                joined_at AS valid_from, left_at AS valid_to, version_number
+            FROM player_team_link_history
+            ORDER BY player_team_link_id, version_number
+            """, rowMapper(MembershipKind.TEAM)));
+
+        intervals.addAll(jdbcTemplate.query("""
+            SELECT player_position_id AS link_id, academy_id, position_id AS group_id, player_id,
+                assigned_at AS valid_from, unassigned_at AS valid_to, version_number
+            FROM player_position_history
+            ORDER BY player_position_id, version_number
+            """, rowMapper(MembershipKind.POSITION)));
+
+        return intervals;
+    }
+
+    public Optional<Long> findAcademyIdByNumber(String academyNumber) {
+        String sql = "SELECT id FROM academy WHERE academy_number = ?";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> rs.getLong("id"), academyNumber)
+            .stream()
+            .findFirst();
+    }
+}
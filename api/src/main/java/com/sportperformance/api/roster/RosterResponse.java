@@ -0,0 +1,12 @@
+package com.sportperformance.api.roster;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public record RosterResponse(
+    String academyNumber,
+    MembershipKind kind,
+    Long groupId,
+    OffsetDateTime asOf,
+    List<Long> playerIds
+) {}
@@ -0,0 +1,32 @@
+package com.sportperformance.api.roster;
+
+import com.sportperformance.api.common.ResourceNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Service
+public class RosterService {
+
+    private final RosterIndex rosterIndex;
+
+    public RosterService(RosterIndex rosterIndex) {
+        this.rosterIndex = rosterIndex;
+    }
+
+    public RosterResponse getRosterAsOf(String academyNumber, MembershipKind kind, Long groupId, OffsetDateTime asOf) {
+        Long academyId = rosterIndex.academyIdFor(academyNumber)
+            .orElseThrow(() -> new ResourceNotFoundException("Academy with number " + academyNumber + " not found"));
+
+        OffsetDateTime pointInTime = asOf != null ? asOf : OffsetDateTime.now();
+        Long effectiveGroupId = kind == MembershipKind.ACADEMY ? academyId : groupId;
+
+        List<Long> playerIds = rosterIndex.membersAsOf(academyId, kind, effectiveGroupId, pointInTime)
+            .stream()
+            .sorted()
+            .toList();
+
+        return new RosterResponse(academyNumber, kind, effectiveGroupId, pointInTime, playerIds);
+    }
+}
@@ -0,0 +1,85 @@
+package com.sportperformance.api.common;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionalGetSupportTest {
+
+    private static final OffsetDateTime VERSION = OffsetDateTime.parse("2024-03-01T10:15:30.123456Z");
+    private static final String ETAG = ConditionalGetSupport.etag(CacheResource.ACADEMY, VERSION);
+
+    private final ConditionalGetSupport support =
+        new ConditionalGetSupport(Duration.ofSeconds(60), Duration.ZERO, Duration.ZERO);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void returnsBodyWithEtagWhenNoValidatorIsSent() {
+        ResponseEntity<String> response = respond(null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo(ETAG);
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=60, private");
+        assertThat(response.getBody()).isEqualTo("academy");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void returnsNotModifiedWithoutLoadingWhenEtagMatches() {
+        ResponseEntity<String> response = respond(ETAG);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void matchesWeakEtagsAndLists() {
+        assertThat(respond("W/" + ETAG).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(respond("\"other\", " + ETAG).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void returnsBodyWhenEtagIsStale() {
+        String stale = ConditionalGetSupport.etag(CacheResource.ACADEMY, VERSION.minusSeconds(1));
+
+        ResponseEntity<String> response = respond(stale);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void etagsDifferPerResourceAndMicrosecond() {
+        assertThat(ConditionalGetSupport.etag(CacheResource.INVITE, VERSION)).isNotEqualTo(ETAG);
+        assertThat(ConditionalGetSupport.etag(CacheResource.ACADEMY, VERSION.plusNanos(1_000))).isNotEqualTo(ETAG);
+    }
+
+    private ResponseEntity<String> respond(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/academies/A1");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        ServletWebRequest webRequest = new ServletWebRequest(request, new MockHttpServletResponse());
+        return support.respond(
+            CacheResource.ACADEMY,
+            webRequest,
+            () -> Optional.of(VERSION),
+            () -> {
+                loads.incrementAndGet();
+                return "academy";
+            });
+    }
+}
@@ -0,0 +1,208 @@
+package com.sportperformance.api.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration NO_BACKGROUND_CHECK = Duration.ofHours(1);
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaOneConnection = mock(Connection.class);
+    private final Connection replicaTwoConnection = mock(Connection.class);
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replicaOne = mock(DataSource.class);
+    private final DataSource replicaTwo = mock(DataSource.class);
+    private final ReadYourWritesGuard guard = new ReadYourWritesGuard(Duration.ofSeconds(5));
+
+    ReplicaRoutingDataSourceTest() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replicaOne.getConnection()).thenReturn(replicaOneConnection);
+        when(replicaTwo.getConnection()).thenReturn(replicaTwoConnection);
+        when(replicaOneConnection.isValid(2)).thenReturn(true);
+        when(replicaTwoConnection.isValid(2)).thenReturn(true);
+    }
+
+    @AfterEach
+    void reset() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readWriteTransactionsUseThePrimary() throws SQLException {
+        try (ReplicaRoutingDataSource routing = routing(replicaOne)) {
+            assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        }
+    }
+
+    @Test
+    void readOnlyTransactionsRoundRobinOverReplicas() throws SQLException {
+        try (ReplicaRoutingDataSource routing = routing(replicaOne, replicaTwo)) {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+            assertThat(List.of(routing.getConnection(), routing.getConnection(), routing.getConnection()))
+                .containsExactly(replicaOneConnection, replicaTwoConnection, replicaOneConnection);
+        }
+    }
+
+    @Test
+    void readOnlyWithoutReplicasUsesThePrimary() throws SQLException {
+        try (ReplicaRoutingDataSource routing = routing()) {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+            assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        }
+    }
+
+    @Test
+    void failedReplicaIsSkippedUntilHealthCheckSeesItAgain() throws Exception {
+        try (ReplicaRoutingDataSource routing = routing(replicaOne, replicaTwo)) {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            when(replicaOne.getConnection())
+                .thenThrow(new SQLTransientConnectionException("timeout", new SQLException("refused")));
+
+            assertThat(routing.getConnection()).isSameAs(replicaTwoConnection);
+            assertThat(routing.getConnection()).isSameAs(replicaTwoConnection);
+
+            doReturn(replicaOneConnection).when(replicaOne).getConnection();
+            assertThat(routing.getConnection()).isSameAs(replicaTwoConnection);
+
+            routing.checkReplicas();
+            assertThat(List.of(routing.getConnection(), routing.getConnection()))
+                .containsExactlyInAnyOrder(replicaOneConnection, replicaTwoConnection);
+        }
+    }
+
+    @Test
+    void busyReplicaFallsThroughWithoutBeingMarkedDown() throws Exception {
+        try (ReplicaRoutingDataSource routing = routing(replicaOne)) {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            when(replicaOne.getConnection())
+                .thenThrow(new SQLTransientConnectionException("pool exhausted"))
+                .thenReturn(replicaOneConnection);
+
+            assertThat(routing.getConnection()).isSameAs(primaryConnection);
+            assertThat(routing.getConnection()).isSameAs(replicaOneConnection);
+        }
+    }
+
+    @Test
+    void busyPoolDuringHealthCheckDoesNotMarkDown() throws Exception {
+        try (ReplicaRoutingDataSource routing = routing(replicaOne)) {
+            when(replicaOne.getConnection())
+                .thenThrow(new SQLTransientConnectionException("pool exhausted"))
+                .thenReturn(replicaOneConnection);
+
+            routing.checkReplicas();
+
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            assertThat(routing.getConnection()).isSameAs(replicaOneConnection);
+        }
+    }
+
+    @Test
+    void pinCookieRoutesReadsToThePrimary() throws Exception {
+        try (ReplicaRoutingDataSource routing = routing(replicaOne)) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/academies/A1");
+            request.setCookies(new Cookie(ReadYourWritesGuard.PIN_COOKIE,
+                Long.toString(System.currentTimeMillis() + 60_000)));
+            List<Connection> seen = new ArrayList<>();
+
+            guard.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+                seen.add(getConnection(routing));
+            });
+
+            assertThat(seen).containsExactly(primaryConnection);
+        }
+    }
+
+    @Test
+    void expiredPinCookieIsIgnored() throws Exception {
+        try (ReplicaRoutingDataSource routing = routing(replicaOne)) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/academies/A1");
+            request.setCookies(new Cookie(ReadYourWritesGuard.PIN_COOKIE,
+                Long.toString(System.currentTimeMillis() - 1)));
+            List<Connection> seen = new ArrayList<>();
+
+            guard.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+                seen.add(getConnection(routing));
+            });
+
+            assertThat(seen).containsExactly(replicaOneConnection);
+        }
+    }
+
+    @Test
+    void commitOfReadWriteTransactionPinsTheRestOfTheRequestAndSetsCookie() throws Exception {
+        try (ReplicaRoutingDataSource routing = routing(replicaOne)) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/academies");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+            List<Connection> seen = new ArrayList<>();
+
+            guard.doFilter(request, response, (req, res) -> {
+                guard.afterCommit(transaction(false), null);
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+                seen.add(getConnection(routing));
+            });
+
+            assertThat(seen).containsExactly(primaryConnection);
+            assertThat(response.getCookie(ReadYourWritesGuard.PIN_COOKIE)).isNotNull();
+            assertThat(routing.getConnection()).isSameAs(replicaOneConnection);
+        }
+    }
+
+    @Test
+    void readOnlyOrFailedCommitsDoNotPin() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/academies/A1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+
+        guard.afterCommit(transaction(true), null);
+        guard.afterCommit(transaction(false), new RuntimeException("commit failed"));
+
+        assertThat(response.getCookie(ReadYourWritesGuard.PIN_COOKIE)).isNull();
+        assertThat(ReadYourWritesGuard.isPinned()).isFalse();
+    }
+
+    private ReplicaRoutingDataSource routing(DataSource... replicas) {
+        return new ReplicaRoutingDataSource(primary, List.of(replicas), NO_BACKGROUND_CHECK);
+    }
+
+    private static Connection getConnection(DataSource dataSource) {
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static TransactionExecution transaction(boolean readOnly) {
+        TransactionExecution transaction = mock(TransactionExecution.class);
+        when(transaction.isReadOnly()).thenReturn(readOnly);
+        return transaction;
+    }
+}
@@ -0,0 +1,121 @@
+package com.sportperformance.api.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the routing stack against two independent Postgres instances. The "replica"
+ * never receives the primary's writes, which makes it an infinitely lagging replica:
+ * any read that sees a fresh row must have been served by the primary.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReplicaRoutingIntegrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> PRIMARY = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Container
+    private static final PostgreSQLContainer<?> REPLICA = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+    private ReadYourWritesGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource primary = dataSource(PRIMARY);
+        DriverManagerDataSource replica = dataSource(REPLICA);
+        for (DriverManagerDataSource dataSource : List.of(primary, replica)) {
+            JdbcTemplate schema = new JdbcTemplate(dataSource);
+            schema.execute("DROP TABLE IF EXISTS academy_note");
+            schema.execute("CREATE TABLE academy_note (id SERIAL PRIMARY KEY, body TEXT NOT NULL)");
+        }
+
+        routing = new ReplicaRoutingDataSource(primary, List.of(replica), Duration.ofHours(1));
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        guard = new ReadYourWritesGuard(Duration.ofSeconds(30));
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionManager.addListener(guard);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        routing.close();
+    }
+
+    @Test
+    void writerReadsItsOwnWriteInTheSameAndNextRequest() throws Exception {
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        AtomicInteger sameRequestCount = new AtomicInteger(-1);
+
+        perform(new MockHttpServletRequest("POST", "/api/v1/academies"), firstResponse, () -> {
+            writeTransaction.executeWithoutResult(status ->
+                jdbcTemplate.update("INSERT INTO academy_note (body) VALUES (?)", "hello"));
+            sameRequestCount.set(countNotes());
+        });
+
+        Cookie pin = firstResponse.getCookie(ReadYourWritesGuard.PIN_COOKIE);
+        assertThat(sameRequestCount).hasValue(1);
+        assertThat(pin).isNotNull();
+
+        AtomicInteger pinnedCount = new AtomicInteger(-1);
+        MockHttpServletRequest followUp = new MockHttpServletRequest("GET", "/api/v1/academies/A1");
+        followUp.setCookies(pin);
+        perform(followUp, new MockHttpServletResponse(), () -> pinnedCount.set(countNotes()));
+        assertThat(pinnedCount).hasValue(1);
+
+        AtomicInteger unpinnedCount = new AtomicInteger(-1);
+        perform(new MockHttpServletRequest("GET", "/api/v1/academies/A1"), new MockHttpServletResponse(),
+            () -> unpinnedCount.set(countNotes()));
+        assertThat(unpinnedCount).hasValue(0);
+    }
+
+    private int countNotes() {
+        Integer count = readOnlyTransaction.execute(status ->
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM academy_note", Integer.class));
+        return count != null ? count : -1;
+    }
+
+    private void perform(MockHttpServletRequest request, MockHttpServletResponse response, Runnable handler)
+            throws Exception {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        try {
+            guard.doFilter(request, response, (req, res) -> handler.run());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    private static DriverManagerDataSource dataSource(PostgreSQLContainer<?> container) {
+        return new DriverManagerDataSource(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+    }
+}
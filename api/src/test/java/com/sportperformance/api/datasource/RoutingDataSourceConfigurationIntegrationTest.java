@@ -0,0 +1,163 @@
+package com.sportperformance.api.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.ConfigurableTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Boots RoutingDataSourceConfiguration with Spring Boot's auto-configuration against
+ * two independent Postgres instances: replicas bound from datasource.routing.replicas[*],
+ * the routing proxy replacing the auto-configured DataSource, the guard registered
+ * with the auto-configured transaction manager and as a servlet filter. The replica
+ * never receives the primary's writes, so any read that sees a fresh row was served
+ * by the primary.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(classes = RoutingDataSourceConfigurationIntegrationTest.TestApplication.class)
+@AutoConfigureMockMvc
+class RoutingDataSourceConfigurationIntegrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> PRIMARY = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Container
+    private static final PostgreSQLContainer<?> REPLICA = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void routingProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", PRIMARY::getJdbcUrl);
+        registry.add("spring.datasource.username", PRIMARY::getUsername);
+        registry.add("spring.datasource.password", PRIMARY::getPassword);
+        registry.add("datasource.routing.enabled", () -> "true");
+        registry.add("datasource.routing.replicas[0].url", REPLICA::getJdbcUrl);
+        registry.add("datasource.routing.replicas[0].username", REPLICA::getUsername);
+        registry.add("datasource.routing.replicas[0].password", REPLICA::getPassword);
+        registry.add("datasource.routing.read-your-writes-window", () -> "30s");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReadYourWritesGuard guard;
+
+    @BeforeEach
+    void createSchema() {
+        for (PostgreSQLContainer<?> container : List.of(PRIMARY, REPLICA)) {
+            JdbcTemplate schema = new JdbcTemplate(new DriverManagerDataSource(
+                container.getJdbcUrl(), container.getUsername(), container.getPassword()));
+            schema.execute("DROP TABLE IF EXISTS academy_note");
+            schema.execute("CREATE TABLE academy_note (id SERIAL PRIMARY KEY, body TEXT NOT NULL)");
+        }
+    }
+
+    @Test
+    void replacesTheDataSourceAndRegistersTheGuard() {
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+        assertThat(((LazyConnectionDataSourceProxy) dataSource).getTargetDataSource())
+            .isInstanceOf(ReplicaRoutingDataSource.class);
+        assertThat(((ConfigurableTransactionManager) transactionManager).getTransactionExecutionListeners())
+            .contains(guard);
+    }
+
+    @Test
+    void writerReadsItsOwnWriteWhileOthersReadTheReplica() throws Exception {
+        MvcResult write = mockMvc.perform(post("/notes"))
+            .andExpect(status().isOk())
+            .andExpect(content().string("1"))
+            .andReturn();
+
+        Cookie pin = write.getResponse().getCookie(ReadYourWritesGuard.PIN_COOKIE);
+        assertThat(pin).isNotNull();
+
+        mockMvc.perform(get("/notes").cookie(pin))
+            .andExpect(content().string("1"));
+        mockMvc.perform(get("/notes"))
+            .andExpect(content().string("0"));
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = FlywayAutoConfiguration.class)
+    @Import({ RoutingDataSourceConfiguration.class, NoteController.class, NoteService.class })
+    static class TestApplication {
+    }
+
+    @RestController
+    static class NoteController {
+
+        private final NoteService noteService;
+
+        NoteController(NoteService noteService) {
+            this.noteService = noteService;
+        }
+
+        @PostMapping("/notes")
+        int add() {
+            noteService.add("hello");
+            return noteService.count();
+        }
+
+        @GetMapping("/notes")
+        int count() {
+            return noteService.count();
+        }
+    }
+
+    static class NoteService {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        NoteService(DataSource dataSource) {
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+        }
+
+        @Transactional
+        public void add(String body) {
+            jdbcTemplate.update("INSERT INTO academy_note (body) VALUES (?)", body);
+        }
+
+        @Transactional(readOnly = true)
+        public int count() {
+            Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM academy_note", Integer.class);
+            return count != null ? count : -1;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.sportperformance.api.leaderboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventLeaderboardTest {
+
+    private final EventLeaderboard leaderboard = new EventLeaderboard(1001L);
+
+    @Test
+    void ranksPlayersByAverageRatingAcrossReportTypes() {
+        leaderboard.apply(rating(ReportType.MATCH, 1L, 10L, "8.00"));
+        leaderboard.apply(rating(ReportType.SKILL_SESSION, 1L, 10L, "6.00"));
+        leaderboard.apply(rating(ReportType.TRIAL_SESSION, 1L, 11L, "7.50"));
+
+        assertThat(leaderboard.top(10)).containsExactly(
+            new LeaderboardEntry(1, 11L, new BigDecimal("7.50"), 1),
+            new LeaderboardEntry(2, 10L, new BigDecimal("7.00"), 2)
+        );
+        assertThat(leaderboard.totalPlayers()).isEqualTo(2);
+    }
+
+    @Test
+    void breaksTiesByPlayerId() {
+        leaderboard.apply(rating(ReportType.MATCH, 1L, 12L, "9.00"));
+        leaderboard.apply(rating(ReportType.MATCH, 2L, 11L, "9.00"));
+
+        assertThat(leaderboard.top(2)).extracting(LeaderboardEntry::playerId).containsExactly(11L, 12L);
+    }
+
+    @Test
+    void replacesTheRatingOfAResavedReport() {
+        leaderboard.apply(rating(ReportType.MATCH, 1L, 10L, "5.00"));
+        leaderboard.apply(rating(ReportType.MATCH, 2L, 11L, "6.00"));
+
+        assertThat(leaderboard.apply(rating(ReportType.MATCH, 1L, 10L, "9.00"))).isTrue();
+
+        assertThat(leaderboard.entryFor(10L)).contains(new LeaderboardEntry(1, 10L, new BigDecimal("9.00"), 1));
+        assertThat(leaderboard.entryFor(11L)).contains(new LeaderboardEntry(2, 11L, new BigDecimal("6.00"), 1));
+    }
+
+    @Test
+    void ignoresAnUnchangedRating() {
+        leaderboard.apply(rating(ReportType.MATCH, 1L, 10L, "5.00"));
+
+        assertThat(leaderboard.apply(rating(ReportType.MATCH, 1L, 10L, "5.0"))).isFalse();
+        assertThat(leaderboard.entryFor(10L)).contains(new LeaderboardEntry(1, 10L, new BigDecimal("5.00"), 1));
+    }
+
+    @Test
+    void nullRatingWithdrawsTheReport() {
+        leaderboard.apply(rating(ReportType.MATCH, 1L, 10L, "8.00"));
+        leaderboard.apply(rating(ReportType.MATCH, 2L, 10L, "4.00"));
+        leaderboard.apply(rating(ReportType.MATCH, 3L, 11L, "7.00"));
+
+        assertThat(leaderboard.apply(rating(ReportType.MATCH, 1L, 10L, null))).isTrue();
+        assertThat(leaderboard.entryFor(10L)).contains(new LeaderboardEntry(2, 10L, new BigDecimal("4.00"), 1));
+
+        assertThat(leaderboard.apply(rating(ReportType.MATCH, 2L, 10L, null))).isTrue();
+        assertThat(leaderboard.entryFor(10L)).isEmpty();
+        assertThat(leaderboard.totalPlayers()).isEqualTo(1);
+
+        assertThat(leaderboard.apply(rating(ReportType.MATCH, 2L, 10L, null))).isFalse();
+    }
+
+    @Test
+    void reportMovedToAnotherPlayerLeavesTheFirstPlayer() {
+        leaderboard.apply(rating(ReportType.MATCH, 1L, 10L, "8.00"));
+        leaderboard.apply(rating(ReportType.MATCH, 2L, 10L, "6.00"));
+
+        assertThat(leaderboard.apply(rating(ReportType.MATCH, 1L, 11L, "8.00"))).isTrue();
+
+        assertThat(leaderboard.top(10)).containsExactly(
+            new LeaderboardEntry(1, 11L, new BigDecimal("8.00"), 1),
+            new LeaderboardEntry(2, 10L, new BigDecimal("6.00"), 1)
+        );
+    }
+
+    @Test
+    void sameReportIdInAnotherReportTypeIsADifferentReport() {
+        leaderboard.apply(rating(ReportType.MATCH, 1L, 10L, "8.00"));
+        leaderboard.apply(rating(ReportType.TRIAL_SESSION, 1L, 10L, "6.00"));
+
+        assertThat(leaderboard.entryFor(10L)).contains(new LeaderboardEntry(1, 10L, new BigDecimal("7.00"), 2));
+    }
+
+    private static ReportRating rating(ReportType type, Long reportId, Long playerId, String rating) {
+        return new ReportRating(type, reportId, 1001L, playerId, rating != null ? new BigDecimal(rating) : null);
+    }
+}
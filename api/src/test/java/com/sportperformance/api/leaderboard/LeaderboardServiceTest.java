@@ -0,0 +1,56 @@
+package com.sportperformance.api.leaderboard;
+
+import com.sportperformance.api.common.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class LeaderboardServiceTest {
+
+    private final LeaderboardRepository repository = mock(LeaderboardRepository.class);
+    private final LeaderboardBroadcaster broadcaster = mock(LeaderboardBroadcaster.class);
+    private final LeaderboardService service = new LeaderboardService(repository, broadcaster);
+
+    @Test
+    void rejectsStreamsForUnknownOrNormalEvents() {
+        when(repository.isVipSelectionEvent(42L)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.subscribe(42L)).isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(broadcaster);
+        assertThat(service.getTop(42L, 10).totalPlayers()).isZero();
+    }
+
+    @Test
+    void subscribesToAVipSelectionEventWithoutRatingsYet() {
+        when(repository.isVipSelectionEvent(7L)).thenReturn(true);
+
+        service.subscribe(7L);
+
+        ArgumentCaptor<EventLeaderboard> leaderboard = ArgumentCaptor.forClass(EventLeaderboard.class);
+        verify(broadcaster).subscribe(leaderboard.capture());
+        assertThat(leaderboard.getValue().eventUniqueNumber()).isEqualTo(7L);
+    }
+
+    @Test
+    void subscribesToALoadedLeaderboardWithoutQueryingTheEvent() {
+        when(repository.findVipSelectionRatings()).thenReturn(List.of(
+            new ReportRating(ReportType.MATCH, 1L, 7L, 10L, new BigDecimal("8.00"))));
+        service.rebuild();
+
+        service.subscribe(7L);
+
+        verify(repository, never()).isVipSelectionEvent(any());
+        verify(broadcaster).subscribe(any());
+    }
+}
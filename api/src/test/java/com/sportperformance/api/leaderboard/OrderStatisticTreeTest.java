@@ -0,0 +1,73 @@
+package com.sportperformance.api.leaderboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderStatisticTreeTest {
+
+    @Test
+    void ranksKeysInComparatorOrder() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        List.of(50, 10, 40, 20, 30).forEach(tree::insert);
+
+        assertThat(tree.size()).isEqualTo(5);
+        assertThat(tree.rankOf(10)).isZero();
+        assertThat(tree.rankOf(30)).isEqualTo(2);
+        assertThat(tree.rankOf(50)).isEqualTo(4);
+        assertThat(tree.rankOf(35)).isEqualTo(-1);
+    }
+
+    @Test
+    void removeReportsWhetherTheKeyWasPresent() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        List.of(1, 2, 3).forEach(tree::insert);
+
+        assertThat(tree.remove(2)).isTrue();
+        assertThat(tree.remove(2)).isFalse();
+        assertThat(tree.size()).isEqualTo(2);
+        assertThat(tree.rankOf(3)).isEqualTo(1);
+    }
+
+    @Test
+    void firstReturnsAtMostLimitKeysInOrder() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.reverseOrder());
+        List.of(3, 1, 4, 5, 9, 2, 6).forEach(tree::insert);
+
+        assertThat(tree.first(3)).containsExactly(9, 6, 5);
+        assertThat(tree.first(100)).containsExactly(9, 6, 5, 4, 3, 2, 1);
+        assertThat(tree.first(0)).isEmpty();
+        assertThat(new OrderStatisticTree<Integer>(Comparator.naturalOrder()).first(5)).isEmpty();
+    }
+
+    @Test
+    void matchesTreeSetUnderRandomInsertsAndRemoves() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(1_000);
+            if (random.nextBoolean()) {
+                if (expected.add(key)) {
+                    tree.insert(key);
+                }
+            } else {
+                assertThat(tree.remove(key)).isEqualTo(expected.remove(key));
+            }
+
+            int probe = random.nextInt(1_000);
+            int expectedRank = expected.contains(probe) ? expected.headSet(probe).size() : -1;
+            assertThat(tree.rankOf(probe)).isEqualTo(expectedRank);
+        }
+
+        assertThat(tree.size()).isEqualTo(expected.size());
+        assertThat(tree.first(25)).isEqualTo(new ArrayList<>(expected).subList(0, Math.min(25, expected.size())));
+    }
+}
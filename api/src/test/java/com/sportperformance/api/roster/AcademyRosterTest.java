@@ -0,0 +1,147 @@
+package com.sportperformance.api.roster;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AcademyRosterTest {
+
+    private static final OffsetDateTime T0 = OffsetDateTime.parse("2024-01-01T00:00:00Z");
+
+    private final AcademyRoster roster = new AcademyRoster();
+
+    @Test
+    void settingLeftAtOnTheSameStintEndsMembership() {
+        roster.apply(team(1L, 7L, 100L, 0, null, 1));
+        roster.apply(team(1L, 7L, 100L, 0, 5, 2));
+
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 7L, day(4))).containsExactly(100L);
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 7L, day(5))).isEmpty();
+    }
+
+    @Test
+    void transferKeepsTheOldTeamHistory() {
+        roster.apply(team(1L, 7L, 100L, 0, null, 1));
+        roster.apply(team(1L, 8L, 100L, 5, null, 2));
+
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 7L, day(2))).containsExactly(100L);
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 7L, day(5))).isEmpty();
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 8L, day(4))).isEmpty();
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 8L, day(5))).containsExactly(100L);
+    }
+
+    @Test
+    void positionChangeKeepsThePreviousPosition() {
+        roster.apply(position(1L, 3L, 100L, 0, 10, 1));
+        roster.apply(position(1L, 4L, 100L, 10, null, 2));
+
+        assertThat(roster.membersAsOf(MembershipKind.POSITION, 3L, day(9))).containsExactly(100L);
+        assertThat(roster.membersAsOf(MembershipKind.POSITION, 4L, day(9))).isEmpty();
+        assertThat(roster.membersAsOf(MembershipKind.POSITION, 4L, day(10))).containsExactly(100L);
+    }
+
+    @Test
+    void rejoinOnTheSameLinkKeepsBothStints() {
+        roster.apply(team(1L, 7L, 100L, 0, 5, 1));
+        roster.apply(team(1L, 7L, 100L, 10, null, 2));
+
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 7L, day(3))).containsExactly(100L);
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 7L, day(7))).isEmpty();
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 7L, day(12))).containsExactly(100L);
+    }
+
+    @Test
+    void versionsAppliedOutOfOrderGiveTheSameResult() {
+        roster.apply(team(1L, 8L, 100L, 5, null, 3));
+        roster.apply(team(1L, 7L, 100L, 0, 5, 2));
+        roster.apply(team(1L, 7L, 100L, 0, null, 1));
+
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 7L, day(4))).containsExactly(100L);
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 7L, day(6))).isEmpty();
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 8L, day(6))).containsExactly(100L);
+    }
+
+    @Test
+    void correctingTheGroupOfAStintMovesTheWholeStint() {
+        roster.apply(team(1L, 7L, 100L, 0, null, 1));
+        roster.apply(team(1L, 8L, 100L, 0, null, 2));
+
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 7L, day(1))).isEmpty();
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 8L, day(1))).containsExactly(100L);
+    }
+
+    @Test
+    void backdatedJoinReplacesTheStintInsteadOfAddingOne() {
+        roster.apply(team(1L, 7L, 100L, 5, null, 1));
+        roster.apply(team(1L, 7L, 100L, 1, null, 2));
+        roster.apply(team(1L, 7L, 100L, 1, 60, 3));
+
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 7L, day(0))).isEmpty();
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 7L, day(2))).containsExactly(100L);
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 7L, day(30))).containsExactly(100L);
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 7L, day(60))).isEmpty();
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 7L, day(365))).isEmpty();
+    }
+
+    @Test
+    void forwardCorrectedJoinDropsTheEarlierStart() {
+        roster.apply(team(1L, 7L, 100L, 1, null, 1));
+        roster.apply(team(1L, 7L, 100L, 5, null, 2));
+
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 7L, day(3))).isEmpty();
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 7L, day(5))).containsExactly(100L);
+    }
+
+    @Test
+    void correctingTheJoinOfAClosedStintKeepsItsEnd() {
+        roster.apply(team(1L, 7L, 100L, 1, 10, 1));
+        roster.apply(team(1L, 7L, 100L, 3, 10, 2));
+
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 7L, day(2))).isEmpty();
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 7L, day(9))).containsExactly(100L);
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 7L, day(10))).isEmpty();
+    }
+
+    @Test
+    void rejoinAfterATransferBackKeepsAllThreeStints() {
+        roster.apply(team(1L, 7L, 100L, 0, null, 1));
+        roster.apply(team(1L, 8L, 100L, 5, null, 2));
+        roster.apply(team(1L, 7L, 100L, 9, null, 3));
+
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 7L, day(4))).containsExactly(100L);
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 7L, day(6))).isEmpty();
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 8L, day(6))).containsExactly(100L);
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 8L, day(9))).isEmpty();
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 7L, day(9))).containsExactly(100L);
+    }
+
+    @Test
+    void kindsAreIndexedSeparately() {
+        roster.apply(team(1L, 7L, 100L, 0, null, 1));
+
+        assertThat(roster.membersAsOf(MembershipKind.SPORT, 7L, day(1))).isEmpty();
+        assertThat(roster.membersAsOf(MembershipKind.TEAM, 99L, day(1))).isEmpty();
+    }
+
+    private static Instant day(int days) {
+        return T0.plusDays(days).toInstant();
+    }
+
+    private static MembershipInterval team(Long linkId, Long teamId, Long playerId, int fromDay, Integer toDay, int version) {
+        return interval(MembershipKind.TEAM, linkId, teamId, playerId, fromDay, toDay, version);
+    }
+
+    private static MembershipInterval position(Long linkId, Long positionId, Long playerId, int fromDay, Integer toDay, int version) {
+        return interval(MembershipKind.POSITION, linkId, positionId, playerId, fromDay, toDay, version);
+    }
+
+    private static MembershipInterval interval(
+            MembershipKind kind, Long linkId, Long groupId, Long playerId, int fromDay, Integer toDay, int version) {
+        return new MembershipInterval(
+            kind, linkId, 1L, groupId, playerId,
+            T0.plusDays(fromDay), toDay != null ? T0.plusDays(toDay) : null, version);
+    }
+}
@@ -0,0 +1,102 @@
+package com.sportperformance.api.roster;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MembershipTimelineTest {
+
+    private static final OffsetDateTime T0 = OffsetDateTime.parse("2024-01-01T00:00:00Z");
+
+    private final MembershipTimeline timeline = new MembershipTimeline();
+
+    @Test
+    void stintIsHalfOpen() {
+        timeline.replace(1L, List.of(stint(1L, 100L, 0, 10)));
+
+        assertThat(timeline.membersAsOf(day(0).minusSeconds(1))).isEmpty();
+        assertThat(timeline.membersAsOf(day(0))).containsExactly(100L);
+        assertThat(timeline.membersAsOf(day(10).minusSeconds(1))).containsExactly(100L);
+        assertThat(timeline.membersAsOf(day(10))).isEmpty();
+    }
+
+    @Test
+    void openEndedStintLastsForever() {
+        timeline.replace(1L, List.of(stint(1L, 100L, 0, null)));
+
+        assertThat(timeline.membersAsOf(day(10_000))).containsExactly(100L);
+    }
+
+    @Test
+    void handOverAtTheSameInstantKeepsExactlyOnePlayerAtTheBoundary() {
+        timeline.replace(1L, List.of(stint(1L, 100L, 0, 5)));
+        timeline.replace(2L, List.of(stint(2L, 101L, 5, null)));
+
+        assertThat(timeline.membersAsOf(day(5))).containsExactly(101L);
+        assertThat(timeline.membersAsOf(day(5).minusNanos(1000))).containsExactly(100L);
+    }
+
+    @Test
+    void overlappingLinksOfOnePlayerKeepThemUntilTheLastEnds() {
+        timeline.replace(1L, List.of(stint(1L, 100L, 0, 5)));
+        timeline.replace(2L, List.of(stint(2L, 100L, 3, 8)));
+
+        assertThat(timeline.membersAsOf(day(5))).containsExactly(100L);
+        assertThat(timeline.membersAsOf(day(8))).isEmpty();
+    }
+
+    @Test
+    void leaveAndRejoinAtTheSameInstantStaysAMember() {
+        timeline.replace(1L, List.of(stint(1L, 100L, 0, 5), stint(1L, 100L, 5, 9)));
+
+        assertThat(timeline.membersAsOf(day(5))).containsExactly(100L);
+        assertThat(timeline.membersAsOf(day(9))).isEmpty();
+    }
+
+    @Test
+    void emptyOrInvertedStintsAreIgnored() {
+        timeline.replace(1L, List.of(stint(1L, 100L, 5, 5), stint(1L, 100L, 7, 6)));
+
+        assertThat(timeline.membersAsOf(day(5))).isEmpty();
+        assertThat(timeline.membersAsOf(day(6))).isEmpty();
+    }
+
+    @Test
+    void replacingWithNoStintsRemovesTheLink() {
+        timeline.replace(1L, List.of(stint(1L, 100L, 0, null)));
+        timeline.replace(1L, List.of());
+
+        assertThat(timeline.membersAsOf(day(1))).isEmpty();
+    }
+
+    @Test
+    void answersAcrossManyCheckpoints() {
+        int players = MembershipTimeline.CHECKPOINT_INTERVAL * 5;
+        for (long p = 0; p < players; p++) {
+            timeline.replace(p, List.of(stint(p, p, (int) p, (int) p + 3)));
+        }
+
+        for (int d = 0; d < players + 3; d++) {
+            List<Long> expected = new ArrayList<>();
+            for (long p = Math.max(0, d - 2); p <= Math.min(d, players - 1); p++) {
+                expected.add(p);
+            }
+            assertThat(timeline.membersAsOf(day(d).plusSeconds(1))).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    private static Instant day(int days) {
+        return T0.plusDays(days).toInstant();
+    }
+
+    private static MembershipInterval stint(Long linkId, Long playerId, int fromDay, Integer toDay) {
+        return new MembershipInterval(
+            MembershipKind.TEAM, linkId, 1L, 7L, playerId,
+            T0.plusDays(fromDay), toDay != null ? T0.plusDays(toDay) : null, 1);
+    }
+}
@@ -0,0 +1,10 @@
+#!/bin/sh
+# Clone the primary into an empty data directory as a hot standby, then start normally
+set -e
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+  until pg_isready -h postgres -U "$POSTGRES_USER"; do
+    sleep 1
+  done
+  PGPASSWORD="$POSTGRES_PASSWORD" pg_basebackup -h postgres -U "$POSTGRES_USER" -D "$PGDATA" -R -X stream
+fi
+exec docker-entrypoint.sh postgres
@@ -0,0 +1,83 @@
+package com.sportperformance.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Thin async wrapper over the API. Every call is timed from the caller's intended
+ * start time, not from when the request actually went out, so queueing delay in the
+ * generator is charged to the request.
+ */
+public class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final Metrics metrics;
+
+    public ApiClient(String baseUrl, Metrics metrics) {
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.metrics = metrics;
+    }
+
+    public CompletableFuture<Optional<JsonNode>> get(Endpoint endpoint, String path, long intendedStartNanos) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Accept", "application/json")
+            .GET()
+            .build();
+        return send(endpoint, request, intendedStartNanos);
+    }
+
+    public CompletableFuture<Optional<JsonNode>> post(
+            Endpoint endpoint, String path, Map<String, Object> body, long intendedStartNanos) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Accept", "application/json")
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(toJson(body)))
+            .build();
+        return send(endpoint, request, intendedStartNanos);
+    }
+
+    private CompletableFuture<Optional<JsonNode>> send(Endpoint endpoint, HttpRequest request, long intendedStartNanos) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+            .handle((response, failure) -> {
+                long latency = System.nanoTime() - intendedStartNanos;
+                boolean success = failure == null && response.statusCode() / 100 == 2;
+                metrics.record(endpoint, latency, success);
+                return success ? Optional.of(parse(response.body())) : Optional.empty();
+            });
+    }
+
+    private String toJson(Map<String, Object> body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize request body", e);
+        }
+    }
+
+    private JsonNode parse(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (JsonProcessingException e) {
+            return objectMapper.missingNode();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.sportperformance.loadtest;
+
+public enum Endpoint {
+    CREATE_ACADEMY("POST /api/v1/academies"),
+    GET_ACADEMY("GET /api/v1/academies/{academyNumber}"),
+    CREATE_INVITE("POST /api/v1/invites"),
+    GET_INVITE("GET /api/v1/invites/{token}"),
+    ACCEPT_INVITE("POST /api/v1/invites/{token}/accept"),
+    /** Whole onboarding session; an error means at least one step failed or was skipped. */
+    SESSION("onboarding session");
+
+    private final String label;
+
+    Endpoint(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+}
@@ -0,0 +1,164 @@
+package com.sportperformance.loadtest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs scenario sessions in open or closed loop.
+ *
+ * Open loop schedules session i at start + i / rate and hands it to a pool of
+ * concurrency workers. When all workers are busy, sessions queue, but each one is
+ * still timed from its scheduled start, so a stalled API cannot hide its latency by
+ * slowing the generator down (coordinated omission).
+ *
+ * Closed loop runs concurrency workers back to back; it measures service time at a
+ * given parallelism rather than latency at a given arrival rate.
+ *
+ * Every session is also recorded as a whole under {@link Endpoint#SESSION}. Sessions
+ * still queued or running when the drain timeout expires are not dropped: they are
+ * recorded as failed with their latency so far, so a run that falls behind cannot
+ * look better than one that kept up.
+ */
+public class LoadDriver {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    private final LoadTestConfig config;
+    private final OnboardingScenario scenario;
+    private final Metrics metrics;
+    private final Set<ScheduledSession> inFlight = ConcurrentHashMap.newKeySet();
+
+    public LoadDriver(LoadTestConfig config, OnboardingScenario scenario, Metrics metrics) {
+        this.config = config;
+        this.scenario = scenario;
+        this.metrics = metrics;
+    }
+
+    public void run() throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(config.concurrency(), runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+
+        Thread resetter = new Thread(() -> {
+            sleepUntil(measureFrom);
+            metrics.reset();
+        }, "loadtest-warmup");
+        resetter.setDaemon(true);
+        resetter.start();
+
+        if (config.mode() == LoadMode.OPEN) {
+            runOpen(workers, start, end);
+        } else {
+            runClosed(workers, end);
+        }
+
+        workers.shutdown();
+        if (workers.awaitTermination(DRAIN_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            metrics.close();
+        } else {
+            List<Runnable> unstarted = workers.shutdownNow();
+            metrics.close();
+            recordUnfinished(unstarted);
+        }
+        resetter.join();
+    }
+
+    /**
+     * Unstarted sessions never sent their first request, so they count as a failed
+     * academy creation as well as a failed session; sessions cut off mid-way already
+     * recorded their completed requests and only count as a failed session. Metrics
+     * are closed first, so requests those sessions complete later are not counted.
+     */
+    private void recordUnfinished(List<Runnable> unstarted) {
+        long now = System.nanoTime();
+        int dropped = 0;
+        for (Runnable runnable : unstarted) {
+            if (runnable instanceof ScheduledSession session && session.finish()) {
+                metrics.recordAbandoned(Endpoint.CREATE_ACADEMY, now - session.intendedStart);
+                metrics.recordAbandoned(Endpoint.SESSION, now - session.intendedStart);
+                dropped++;
+            }
+        }
+        int abandoned = 0;
+        for (ScheduledSession session : inFlight) {
+            if (session.finish()) {
+                metrics.recordAbandoned(Endpoint.SESSION, now - session.intendedStart);
+                abandoned++;
+            }
+        }
+        System.err.println("Drain timeout of " + DRAIN_TIMEOUT.toSeconds() + "s expired: " + dropped
+            + " sessions never started and " + abandoned + " were still running; both are reported as failed");
+    }
+
+    private void runOpen(ExecutorService workers, long start, long end) {
+        double intervalNanos = 1_000_000_000d / config.rate();
+        for (long i = 0; ; i++) {
+            long intendedStart = start + (long) (i * intervalNanos);
+            if (intendedStart >= end) {
+                return;
+            }
+            sleepUntil(intendedStart);
+            workers.execute(new ScheduledSession(intendedStart));
+        }
+    }
+
+    private void runClosed(ExecutorService workers, long end) {
+        for (int i = 0; i < config.concurrency(); i++) {
+            workers.execute(() -> {
+                while (System.nanoTime() < end) {
+                    new ScheduledSession(System.nanoTime()).run();
+                }
+            });
+        }
+    }
+
+    private final class ScheduledSession implements Runnable {
+        private final long intendedStart;
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        private ScheduledSession(long intendedStart) {
+            this.intendedStart = intendedStart;
+        }
+
+        @Override
+        public void run() {
+            inFlight.add(this);
+            boolean success = false;
+            try {
+                success = scenario.run(intendedStart);
+            } catch (RuntimeException e) {
+                System.err.println("Session failed: " + e);
+            } finally {
+                inFlight.remove(this);
+            }
+            if (finish()) {
+                metrics.record(Endpoint.SESSION, System.nanoTime() - intendedStart, success);
+            }
+        }
+
+        /** Claims the right to record this session's outcome; only the first caller wins. */
+        private boolean finish() {
+            return finished.compareAndSet(false, true);
+        }
+    }
+
+    private static void sleepUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
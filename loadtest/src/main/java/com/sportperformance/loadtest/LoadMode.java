@@ -0,0 +1,8 @@
+package com.sportperformance.loadtest;
+
+public enum LoadMode {
+    /** Sessions start on a fixed schedule regardless of how fast the API answers. */
+    OPEN,
+    /** A fixed number of workers each start a new session when the previous one ends. */
+    CLOSED
+}
@@ -0,0 +1,56 @@
+package com.sportperformance.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Entry point:
+ *   java -jar loadtest.jar --base-url=http://localhost:8080 --mode=open --rate=5
+ *        --concurrency=32 --warmup-seconds=10 --duration-seconds=60
+ *        --output=report.tsv [--hgrm-dir=hgrm] [--baseline=baseline.tsv]
+ * Exits with status 1 when a baseline is given and the run regresses against it.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        Metrics metrics = new Metrics();
+        ApiClient apiClient = new ApiClient(config.baseUrl(), metrics);
+        OnboardingScenario scenario = new OnboardingScenario(apiClient, config.invitesPerAcademy(), config.academyReads());
+
+        System.out.println("Running onboarding scenario against " + config.baseUrl() + ": " + config.describe());
+        new LoadDriver(config, scenario, metrics).run();
+
+        Report report = Report.from(metrics);
+        report.print(System.out);
+        report.write(config.output(), config.describe());
+        if (config.hgrmDir() != null) {
+            writePercentileDistributions(metrics, config.hgrmDir());
+        }
+
+        if (config.baseline() != null) {
+            List<String> regressions = report.regressionsAgainst(
+                Report.read(config.baseline()), config.maxP99Regression(), config.maxErrorRateIncrease());
+            if (!regressions.isEmpty()) {
+                System.err.println("Regressions against " + config.baseline() + ":");
+                regressions.forEach(regression -> System.err.println("  " + regression));
+                System.exit(1);
+            }
+            System.out.println("No regressions against " + config.baseline());
+        }
+    }
+
+    private static void writePercentileDistributions(Metrics metrics, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Endpoint endpoint : Endpoint.values()) {
+            Path file = directory.resolve(endpoint.name().toLowerCase(Locale.ROOT) + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                metrics.histogram(endpoint).outputPercentileDistribution(out, 1_000.0);
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.sportperformance.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+public record LoadTestConfig(
+    String baseUrl,
+    LoadMode mode,
+    double rate,
+    int concurrency,
+    Duration warmup,
+    Duration duration,
+    int invitesPerAcademy,
+    int academyReads,
+    Path output,
+    Path hgrmDir,
+    Path baseline,
+    double maxP99Regression,
+    double maxErrorRateIncrease
+) {
+
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        LoadTestConfig config = new LoadTestConfig(
+            options.getOrDefault("base-url", "http://localhost:8080"),
+            LoadMode.valueOf(options.getOrDefault("mode", "open").toUpperCase()),
+            Double.parseDouble(options.getOrDefault("rate", "5")),
+            Integer.parseInt(options.getOrDefault("concurrency", "32")),
+            Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup-seconds", "10"))),
+            Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration-seconds", "60"))),
+            Integer.parseInt(options.getOrDefault("invites-per-academy", "10")),
+            Integer.parseInt(options.getOrDefault("academy-reads", "5")),
+            Path.of(options.getOrDefault("output", "loadtest-report.tsv")),
+            options.containsKey("hgrm-dir") ? Path.of(options.get("hgrm-dir")) : null,
+            options.containsKey("baseline") ? Path.of(options.get("baseline")) : null,
+            Double.parseDouble(options.getOrDefault("max-p99-regression", "0.10")),
+            Double.parseDouble(options.getOrDefault("max-error-rate-increase", "0.01"))
+        );
+
+        if (config.rate() <= 0 || config.concurrency() <= 0 || config.invitesPerAcademy() <= 0) {
+            throw new IllegalArgumentException("rate, concurrency and invites-per-academy must be positive");
+        }
+        return config;
+    }
+
+    public String describe() {
+        return "mode=" + mode.name().toLowerCase()
+            + (mode == LoadMode.OPEN ? " rate=" + rate + "/s" : "")
+            + " concurrency=" + concurrency
+            + " warmup=" + warmup.toSeconds() + "s"
+            + " duration=" + duration.toSeconds() + "s"
+            + " invites-per-academy=" + invitesPerAcademy
+            + " academy-reads=" + academyReads;
+    }
+}
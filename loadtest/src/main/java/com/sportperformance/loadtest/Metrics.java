@@ -0,0 +1,85 @@
+package com.sportperformance.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Per-endpoint latency histograms (microseconds) and error counters. Latencies are
+ * recorded for every response, successful or not, so error spikes still show up
+ * in the percentiles.
+ *
+ * Once closed, regular records are refused: requests of abandoned sessions that
+ * complete after the drain timeout cannot change a report that is being written.
+ */
+public class Metrics {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<Endpoint, ConcurrentHistogram> histograms = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private boolean closed;
+
+    public Metrics() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            histograms.put(endpoint, new ConcurrentHistogram(SIGNIFICANT_DIGITS));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    public void record(Endpoint endpoint, long latencyNanos, boolean success) {
+        closeLock.readLock().lock();
+        try {
+            if (!closed) {
+                add(endpoint, latencyNanos, success);
+            }
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Records a failure for work the driver gave up on; still accepted after close.
+     */
+    public void recordAbandoned(Endpoint endpoint, long latencyNanos) {
+        add(endpoint, latencyNanos, false);
+    }
+
+    /**
+     * Refuses further records; returns once no record is in progress.
+     */
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+    }
+
+    private void add(Endpoint endpoint, long latencyNanos, boolean success) {
+        histograms.get(endpoint).recordValue(Math.max(1, latencyNanos / 1_000));
+        if (!success) {
+            errors.get(endpoint).increment();
+        }
+    }
+
+    public void reset() {
+        histograms.values().forEach(Histogram::reset);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    public Histogram histogram(Endpoint endpoint) {
+        return histograms.get(endpoint).copy();
+    }
+
+    public long errors(Endpoint endpoint) {
+        return errors.get(endpoint).sum();
+    }
+}
@@ -0,0 +1,107 @@
+package com.sportperformance.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One academy onboarding session: create the academy, create its invites in bulk,
+ * fetch every invite by token, accept all invites concurrently, then read the
+ * academy back a few times. Steps that depend on each other run in order; fan-out
+ * steps run in parallel. A failed step skips whatever depends on it; the skipped
+ * calls are not sent, so the session itself is reported as failed instead.
+ */
+public class OnboardingScenario {
+
+    private final ApiClient apiClient;
+    private final int invitesPerAcademy;
+    private final int academyReads;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sessions = new AtomicLong();
+
+    public OnboardingScenario(ApiClient apiClient, int invitesPerAcademy, int academyReads) {
+        this.apiClient = apiClient;
+        this.invitesPerAcademy = invitesPerAcademy;
+        this.academyReads = academyReads;
+    }
+
+    /**
+     * Runs one session and returns whether every step succeeded. The first request is
+     * timed from intendedStartNanos so a session that starts late because the
+     * generator is saturated is charged for it.
+     */
+    public boolean run(long intendedStartNanos) {
+        long session = sessions.incrementAndGet();
+        String academyNumber = "LT-" + runId + "-" + session;
+
+        Optional<JsonNode> academy = apiClient.post(Endpoint.CREATE_ACADEMY, "/api/v1/academies", Map.of(
+            "academyNumber", academyNumber,
+            "name", "Load Test Academy " + session
+        ), intendedStartNanos).join();
+        if (academy.isEmpty()) {
+            return false;
+        }
+
+        List<CompletableFuture<Optional<JsonNode>>> created = new ArrayList<>();
+        long invitesStart = System.nanoTime();
+        for (int i = 0; i < invitesPerAcademy; i++) {
+            created.add(apiClient.post(Endpoint.CREATE_INVITE, "/api/v1/invites", Map.of(
+                "academyNumber", academyNumber,
+                "email", "lt-" + runId + "-" + session + "-" + i + "@loadtest.local",
+                "role", "PLAYER",
+                "expiresInHours", 24
+            ), invitesStart));
+        }
+
+        List<Invite> invites = new ArrayList<>();
+        for (int i = 0; i < created.size(); i++) {
+            int index = i;
+            created.get(i).join()
+                .map(body -> body.path("token").asText(null))
+                .ifPresent(token -> invites.add(new Invite(
+                    token,
+                    "lt-" + runId + "-" + session + "-" + index + "@loadtest.local"
+                )));
+        }
+
+        boolean complete = invites.size() == invitesPerAcademy;
+
+        for (Invite invite : invites) {
+            complete &= apiClient.get(Endpoint.GET_INVITE, "/api/v1/invites/" + encode(invite.token()), System.nanoTime())
+                .join()
+                .isPresent();
+        }
+
+        long acceptStart = System.nanoTime();
+        List<CompletableFuture<Optional<JsonNode>>> accepted = invites.stream()
+            .map(invite -> apiClient.post(
+                Endpoint.ACCEPT_INVITE,
+                "/api/v1/invites/" + encode(invite.token()) + "/accept",
+                Map.of("email", invite.email()),
+                acceptStart))
+            .toList();
+        for (CompletableFuture<Optional<JsonNode>> accept : accepted) {
+            complete &= accept.join().isPresent();
+        }
+
+        for (int i = 0; i < academyReads; i++) {
+            complete &= apiClient.get(Endpoint.GET_ACADEMY, "/api/v1/academies/" + encode(academyNumber), System.nanoTime())
+                .join()
+                .isPresent();
+        }
+        return complete;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private record Invite(String token, String email) {}
+}
@@ -0,0 +1,125 @@
+package com.sportperformance.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Tab separated per-endpoint summary, one row per endpoint in a fixed order, so two
+ * runs can be compared with a plain diff. Also gates a run against a baseline report.
+ */
+public class Report {
+
+    private static final String HEADER = "endpoint\trequests\terrors\terror_rate\tp50_ms\tp99_ms\tp999_ms\tmax_ms";
+
+    private final Map<String, Row> rows;
+
+    private Report(Map<String, Row> rows) {
+        this.rows = rows;
+    }
+
+    public static Report from(Metrics metrics) {
+        Map<String, Row> rows = new LinkedHashMap<>();
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = metrics.histogram(endpoint);
+            long requests = histogram.getTotalCount();
+            long errors = metrics.errors(endpoint);
+            rows.put(endpoint.label(), new Row(
+                endpoint.label(),
+                requests,
+                errors,
+                requests == 0 ? 0 : (double) errors / requests,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue())
+            ));
+        }
+        return new Report(rows);
+    }
+
+    public static Report read(Path path) throws IOException {
+        Map<String, Row> rows = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(path)) {
+            if (line.isBlank() || line.startsWith("#") || line.equals(HEADER)) {
+                continue;
+            }
+            String[] columns = line.split("\t");
+            rows.put(columns[0], new Row(
+                columns[0],
+                Long.parseLong(columns[1]),
+                Long.parseLong(columns[2]),
+                Double.parseDouble(columns[3]),
+                Double.parseDouble(columns[4]),
+                Double.parseDouble(columns[5]),
+                Double.parseDouble(columns[6]),
+                Double.parseDouble(columns[7])
+            ));
+        }
+        return new Report(rows);
+    }
+
+    public void write(Path path, String description) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("# " + description);
+        lines.add(HEADER);
+        rows.values().forEach(row -> lines.add(row.format()));
+        Files.write(path, lines);
+    }
+
+    public void print(PrintStream out) {
+        out.println(HEADER);
+        rows.values().forEach(row -> out.println(row.format()));
+    }
+
+    /**
+     * Returns one message per endpoint whose p99 or error rate regressed beyond the
+     * allowed margins compared with the baseline; empty means the run passes.
+     */
+    public List<String> regressionsAgainst(Report baseline, double maxP99Regression, double maxErrorRateIncrease) {
+        List<String> regressions = new ArrayList<>();
+        baseline.rows.forEach((endpoint, before) -> {
+            Row after = rows.get(endpoint);
+            if (after == null || after.requests() == 0 || before.requests() == 0) {
+                return;
+            }
+            if (after.p99Ms() > before.p99Ms() * (1 + maxP99Regression)) {
+                regressions.add(String.format(Locale.ROOT, "%s p99 %.3fms -> %.3fms (allowed +%.0f%%)",
+                    endpoint, before.p99Ms(), after.p99Ms(), maxP99Regression * 100));
+            }
+            if (after.errorRate() > before.errorRate() + maxErrorRateIncrease) {
+                regressions.add(String.format(Locale.ROOT, "%s error rate %.4f -> %.4f (allowed +%.4f)",
+                    endpoint, before.errorRate(), after.errorRate(), maxErrorRateIncrease));
+            }
+        });
+        return regressions;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000d;
+    }
+
+    private record Row(
+        String endpoint,
+        long requests,
+        long errors,
+        double errorRate,
+        double p50Ms,
+        double p99Ms,
+        double p999Ms,
+        double maxMs
+    ) {
+        String format() {
+            return String.format(Locale.ROOT, "%s\t%d\t%d\t%.4f\t%.3f\t%.3f\t%.3f\t%.3f",
+                endpoint, requests, errors, errorRate, p50Ms, p99Ms, p999Ms, maxMs);
+        }
+    }
+}
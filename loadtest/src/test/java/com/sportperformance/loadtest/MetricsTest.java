@@ -0,0 +1,42 @@
+package com.sportperformance.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsTest {
+
+    private final Metrics metrics = new Metrics();
+
+    @Test
+    void recordsLatencyForSuccessesAndFailures() {
+        metrics.record(Endpoint.GET_INVITE, 2_000_000, true);
+        metrics.record(Endpoint.GET_INVITE, 4_000_000, false);
+
+        assertThat(metrics.histogram(Endpoint.GET_INVITE).getTotalCount()).isEqualTo(2);
+        assertThat(metrics.errors(Endpoint.GET_INVITE)).isEqualTo(1);
+    }
+
+    @Test
+    void refusesRecordsAfterCloseButKeepsAbandonedWork() {
+        metrics.record(Endpoint.CREATE_ACADEMY, 1_000_000, true);
+        metrics.close();
+
+        metrics.record(Endpoint.CREATE_ACADEMY, 1_000_000, false);
+        metrics.recordAbandoned(Endpoint.SESSION, 60_000_000_000L);
+
+        assertThat(metrics.histogram(Endpoint.CREATE_ACADEMY).getTotalCount()).isEqualTo(1);
+        assertThat(metrics.errors(Endpoint.CREATE_ACADEMY)).isZero();
+        assertThat(metrics.histogram(Endpoint.SESSION).getTotalCount()).isEqualTo(1);
+        assertThat(metrics.errors(Endpoint.SESSION)).isEqualTo(1);
+    }
+
+    @Test
+    void resetClearsWarmupRecords() {
+        metrics.record(Endpoint.ACCEPT_INVITE, 1_000_000, false);
+        metrics.reset();
+
+        assertThat(metrics.histogram(Endpoint.ACCEPT_INVITE).getTotalCount()).isZero();
+        assertThat(metrics.errors(Endpoint.ACCEPT_INVITE)).isZero();
+    }
+}
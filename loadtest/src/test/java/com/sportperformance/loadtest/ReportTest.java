@@ -0,0 +1,103 @@
+package com.sportperformance.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReportTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void writeThenReadKeepsEveryRow() throws IOException {
+        Metrics metrics = new Metrics();
+        metrics.record(Endpoint.CREATE_ACADEMY, 12 * MILLIS, true);
+        metrics.record(Endpoint.CREATE_ACADEMY, 40 * MILLIS, false);
+        metrics.record(Endpoint.GET_ACADEMY, 3 * MILLIS, true);
+        Report report = Report.from(metrics);
+        Path file = tempDir.resolve("report.tsv");
+
+        report.write(file, "mode=open rate=5.0/s");
+        Report read = Report.read(file);
+
+        assertThat(printed(read)).isEqualTo(printed(report));
+        assertThat(Files.readAllLines(file)).first().isEqualTo("# mode=open rate=5.0/s");
+        assertThat(printed(read)).contains("POST /api/v1/academies\t2\t1\t0.5000\t");
+    }
+
+    @Test
+    void passesWhenP99StaysWithinTheMargin() {
+        Report baseline = reportWith(Endpoint.GET_ACADEMY, 10 * MILLIS, 100, 0);
+        Report current = reportWith(Endpoint.GET_ACADEMY, 105 * MILLIS / 10, 100, 0);
+
+        assertThat(current.regressionsAgainst(baseline, 0.10, 0.01)).isEmpty();
+    }
+
+    @Test
+    void flagsAP99RegressionBeyondTheMargin() {
+        Report baseline = reportWith(Endpoint.GET_ACADEMY, 10 * MILLIS, 100, 0);
+        Report current = reportWith(Endpoint.GET_ACADEMY, 12 * MILLIS, 100, 0);
+
+        List<String> regressions = current.regressionsAgainst(baseline, 0.10, 0.01);
+
+        assertThat(regressions).singleElement().asString()
+            .startsWith(Endpoint.GET_ACADEMY.label() + " p99");
+    }
+
+    @Test
+    void flagsAnErrorRateIncreaseBeyondTheMargin() {
+        Report baseline = reportWith(Endpoint.SESSION, 10 * MILLIS, 100, 0);
+        Report current = reportWith(Endpoint.SESSION, 10 * MILLIS, 100, 5);
+
+        assertThat(current.regressionsAgainst(baseline, 0.10, 0.01)).singleElement().asString()
+            .startsWith(Endpoint.SESSION.label() + " error rate");
+        assertThat(current.regressionsAgainst(baseline, 0.10, 0.05)).isEmpty();
+    }
+
+    @Test
+    void skipsEndpointsWithoutRequestsOnEitherSide() {
+        Report baseline = reportWith(Endpoint.GET_ACADEMY, 10 * MILLIS, 100, 0);
+        Report current = reportWith(Endpoint.GET_INVITE, 50 * MILLIS, 100, 100);
+
+        assertThat(current.regressionsAgainst(baseline, 0.10, 0.01)).isEmpty();
+    }
+
+    @Test
+    void ignoresRowsMissingFromAnOlderBaseline() throws IOException {
+        Path file = tempDir.resolve("baseline.tsv");
+        Files.write(file, List.of(
+            "# older run",
+            "endpoint\trequests\terrors\terror_rate\tp50_ms\tp99_ms\tp999_ms\tmax_ms",
+            "GET /api/v1/academies/{academyNumber}\t100\t0\t0.0000\t5.000\t10.000\t10.000\t10.000"
+        ));
+        Report current = reportWith(Endpoint.SESSION, 900 * MILLIS, 10, 10);
+
+        assertThat(current.regressionsAgainst(Report.read(file), 0.10, 0.01)).isEmpty();
+    }
+
+    private static Report reportWith(Endpoint endpoint, long latencyNanos, int requests, int errors) {
+        Metrics metrics = new Metrics();
+        for (int i = 0; i < requests; i++) {
+            metrics.record(endpoint, latencyNanos, i >= errors);
+        }
+        return Report.from(metrics);
+    }
+
+    private static String printed(Report report) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        report.print(new PrintStream(bytes, true, StandardCharsets.UTF_8));
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+}